@@ -0,0 +1,197 @@
+package com.studytracker.benchmark;
+
+import com.studytracker.dto.DailySummaryDto;
+import com.studytracker.dto.MonthlySummaryDto;
+import com.studytracker.entity.StudyRecord;
+import com.studytracker.repository.DailyMemoRepository;
+import com.studytracker.repository.DailyStudyRollupRepository;
+import com.studytracker.repository.StudyRecordRepository;
+import com.studytracker.repository.projection.DailyStudyName;
+import com.studytracker.repository.projection.DailyTimeSlotTotal;
+import com.studytracker.repository.projection.MonthlyStudyName;
+import com.studytracker.repository.projection.MonthlyTimeSlotTotal;
+import com.studytracker.service.ChallengeService;
+import com.studytracker.service.TimeSlotAggregator;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ChallengeService.getMonthlySummary/getDailySummary 자체의 CPU/할당 비용
+ * 저장소는 집계 테이블(daily_study_rollup) 조회 결과를 미리 만들어 돌려주는 프록시로 대체하므로
+ * DB 왕복을 제외한 서비스 코드(행 누적 + DTO 조립)만 측정된다 (캐시/트랜잭션 프록시도 거치지 않음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ChallengeServiceBenchmark {
+
+    private static final int MONTH = 3;
+
+    /**
+     * 집계 행 수는 (일자 x 시간대) / (일자 x 스터디) 조합으로 제한되므로 기록 건수가 늘면 포화된다
+     */
+    @Param({"1000", "100000", "1000000"})
+    public int recordCount;
+
+    private ChallengeService challengeService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticRecords records = SyntheticRecords.generate(recordCount);
+        long[][] minutes = new long[SyntheticRecords.DAYS][TimeSlotAggregator.SLOT_COUNT];
+        List<Set<Long>> studiesByDay = new ArrayList<>(SyntheticRecords.DAYS);
+        for (int day = 0; day < SyntheticRecords.DAYS; day++) {
+            studiesByDay.add(new TreeSet<>());
+        }
+        for (int i = 0; i < records.size; i++) {
+            minutes[records.dayIndexes[i]][records.slots[i]] += records.durations[i];
+            studiesByDay.get(records.dayIndexes[i]).add(records.studyIds[i]);
+        }
+
+        List<DailyTimeSlotTotal> dailyTotals = new ArrayList<>();
+        List<DailyStudyName> dailyStudies = new ArrayList<>();
+        Map<String, Long> monthlyTotals = new TreeMap<>();
+        Set<String> monthlyStudies = new TreeSet<>();
+        for (int day = 0; day < SyntheticRecords.DAYS; day++) {
+            LocalDate date = SyntheticRecords.START_DATE.plusDays(day);
+            for (int slot = 0; slot < TimeSlotAggregator.SLOT_COUNT; slot++) {
+                if (minutes[day][slot] > 0) {
+                    dailyTotals.add(new Row(date, date.getMonthValue(), TimeSlotAggregator.TIME_SLOTS[slot],
+                            minutes[day][slot], null));
+                    monthlyTotals.merge(date.getMonthValue() + ":" + slot, minutes[day][slot], Long::sum);
+                }
+            }
+            for (Long studyId : studiesByDay.get(day)) {
+                dailyStudies.add(new Row(date, date.getMonthValue(), null, 0, studyId));
+                monthlyStudies.add(date.getMonthValue() + ":" + studyId);
+            }
+        }
+        List<MonthlyTimeSlotTotal> monthlyTotalRows = new ArrayList<>();
+        monthlyTotals.forEach((key, total) -> {
+            String[] parts = key.split(":");
+            monthlyTotalRows.add(new Row(null, Integer.parseInt(parts[0]),
+                    TimeSlotAggregator.TIME_SLOTS[Integer.parseInt(parts[1])], total, null));
+        });
+        List<MonthlyStudyName> monthlyStudyRows = new ArrayList<>();
+        for (String key : monthlyStudies) {
+            String[] parts = key.split(":");
+            monthlyStudyRows.add(new Row(null, Integer.parseInt(parts[0]), null, 0, Long.parseLong(parts[1])));
+        }
+
+        // 일별 조회는 MONTH 한 달만 요청하므로 해당 월의 행만 미리 골라 둔다
+        List<DailyTimeSlotTotal> monthDailyTotals = new ArrayList<>();
+        for (DailyTimeSlotTotal row : dailyTotals) {
+            if (row.getDate().getMonthValue() == MONTH) {
+                monthDailyTotals.add(row);
+            }
+        }
+        List<DailyStudyName> monthDailyStudies = new ArrayList<>();
+        for (DailyStudyName row : dailyStudies) {
+            if (row.getDate().getMonthValue() == MONTH) {
+                monthDailyStudies.add(row);
+            }
+        }
+
+        DailyStudyRollupRepository rollupRepository = stub(DailyStudyRollupRepository.class, (method, args) -> {
+            switch (method) {
+                case "sumByMonthAndTimeSlot":
+                    return monthlyTotalRows;
+                case "findStudyNamesByMonth":
+                    return monthlyStudyRows;
+                case "sumByDateAndTimeSlot":
+                    return monthDailyTotals;
+                case "findStudyNamesByDate":
+                    return monthDailyStudies;
+                default:
+                    throw new UnsupportedOperationException(method);
+            }
+        });
+        DailyMemoRepository memoRepository = stub(DailyMemoRepository.class, (method, args) -> {
+            if ("findByDateBetweenOrderByDateAsc".equals(method)) {
+                return Collections.emptyList();
+            }
+            throw new UnsupportedOperationException(method);
+        });
+        StudyRecordRepository studyRecordRepository = stub(StudyRecordRepository.class, (method, args) -> {
+            throw new UnsupportedOperationException(method);
+        });
+        challengeService = new ChallengeService(rollupRepository, memoRepository, studyRecordRepository);
+    }
+
+    @Benchmark
+    public List<MonthlySummaryDto> monthlySummary() {
+        return challengeService.getMonthlySummary(SyntheticRecords.YEAR);
+    }
+
+    @Benchmark
+    public List<DailySummaryDto> dailySummary() {
+        return challengeService.getDailySummary(SyntheticRecords.YEAR, MONTH);
+    }
+
+    private interface StubHandler {
+        Object handle(String method, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, StubHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.handle(method.getName(), args));
+    }
+
+    /**
+     * 저장소 프로젝션 인터페이스의 공용 구현
+     */
+    private static final class Row implements DailyTimeSlotTotal, DailyStudyName, MonthlyTimeSlotTotal, MonthlyStudyName {
+
+        private final LocalDate date;
+        private final Integer month;
+        private final StudyRecord.TimeSlot timeSlot;
+        private final Long totalDuration;
+        private final Long studyId;
+
+        private Row(LocalDate date, int month, StudyRecord.TimeSlot timeSlot, long totalDuration, Long studyId) {
+            this.date = date;
+            this.month = month;
+            this.timeSlot = timeSlot;
+            this.totalDuration = totalDuration;
+            this.studyId = studyId;
+        }
+
+        @Override
+        public LocalDate getDate() {
+            return date;
+        }
+
+        @Override
+        public Integer getMonth() {
+            return month;
+        }
+
+        @Override
+        public StudyRecord.TimeSlot getTimeSlot() {
+            return timeSlot;
+        }
+
+        @Override
+        public Long getTotalDuration() {
+            return totalDuration;
+        }
+
+        @Override
+        public Long getStudyId() {
+            return studyId;
+        }
+
+        @Override
+        public String getStudyName() {
+            return studyId == null ? null : SyntheticRecords.studyName(studyId);
+        }
+    }
+}
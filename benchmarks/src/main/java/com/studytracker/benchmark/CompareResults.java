@@ -0,0 +1,72 @@
+package com.studytracker.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JMH JSON 결과(-rf json) 두 개를 비교해 벤치마크별 처리량/할당량 변화를 출력
+ *
+ * 사용법: java -cp target/benchmarks.jar com.studytracker.benchmark.CompareResults results/baseline.json results/current.json
+ */
+public final class CompareResults {
+
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+
+    private CompareResults() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("사용법: CompareResults <기준 결과.json> <비교 결과.json>");
+            System.exit(1);
+        }
+        Map<String, JsonNode> baseline = load(new File(args[0]));
+        Map<String, JsonNode> current = load(new File(args[1]));
+
+        System.out.printf("%-70s %14s %14s %8s %12s %12s%n",
+                "Benchmark", "Baseline", "Current", "Δ%", "B/op(base)", "B/op(cur)");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            double afterScore = after.path("primaryMetric").path("score").asDouble();
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.1f %8s %12s %12s%n",
+                        entry.getKey(), "-", afterScore, "new", "-", allocation(after));
+                continue;
+            }
+            double beforeScore = before.path("primaryMetric").path("score").asDouble();
+            System.out.printf("%-70s %14.1f %14.1f %+7.1f%% %12s %12s%n",
+                    entry.getKey(), beforeScore, afterScore, (afterScore - beforeScore) / beforeScore * 100,
+                    allocation(before), allocation(after));
+        }
+    }
+
+    /**
+     * 벤치마크 이름 + 파라미터를 키로 결과를 읽는다
+     */
+    private static Map<String, JsonNode> load(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText()
+                    .replace("com.studytracker.", ""));
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    private static String allocation(JsonNode result) {
+        JsonNode metric = result.path("secondaryMetrics").path(ALLOC_METRIC);
+        return metric.isMissingNode() ? "-" : String.format("%.0f", metric.path("score").asDouble());
+    }
+}
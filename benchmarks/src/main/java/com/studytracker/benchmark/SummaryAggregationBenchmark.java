@@ -0,0 +1,103 @@
+package com.studytracker.benchmark;
+
+import com.studytracker.dto.DailySummaryDto;
+import com.studytracker.dto.MonthlySummaryDto;
+import com.studytracker.service.TimeSlotAggregator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원시 기록 → 월별/일별 집계 DTO 변환 (calculateMonthlySummary/calculateDailySummary 방식)
+ * 기록 건수에 비례하는 TimeSlotAggregator 누적 비용과 DTO 조립 비용을 함께 측정한다
+ * DB 조회는 포함하지 않는다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SummaryAggregationBenchmark {
+
+    private static final int MONTH = 3;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int recordCount;
+
+    private SyntheticRecords records;
+    private Map<Long, String> studyNames;
+    private int monthOffset;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        records = SyntheticRecords.generate(recordCount);
+        studyNames = new HashMap<>();
+        for (long studyId = 1; studyId <= SyntheticRecords.STUDY_COUNT; studyId++) {
+            studyNames.put(studyId, SyntheticRecords.studyName(studyId));
+        }
+        monthOffset = (int) (LocalDate.of(SyntheticRecords.YEAR, MONTH, 1).toEpochDay()
+                - SyntheticRecords.START_DATE.toEpochDay());
+    }
+
+    @Benchmark
+    public List<MonthlySummaryDto> monthlySummary() {
+        TimeSlotAggregator aggregator = TimeSlotAggregator.forYear(SyntheticRecords.YEAR);
+        for (int i = 0; i < records.size; i++) {
+            aggregator.add(records.dayIndexes[i], records.slots[i], records.durations[i]);
+            aggregator.addStudy(records.dayIndexes[i], records.studyIds[i]);
+        }
+
+        List<MonthlySummaryDto> summaries = new ArrayList<>(12);
+        int[] totals = new int[TimeSlotAggregator.SLOT_COUNT];
+        LocalDate monthStart = aggregator.getStartDate();
+        for (int month = 1; month <= 12; month++) {
+            LocalDate nextMonthStart = monthStart.plusMonths(1);
+            int fromDay = aggregator.dayIndex(monthStart);
+            int toDay = aggregator.dayIndex(nextMonthStart);
+            int totalDuration = aggregator.slotTotals(fromDay, toDay, totals);
+            List<Long> studyIds = aggregator.studyIds(fromDay, toDay);
+            summaries.add(new MonthlySummaryDto(month, TimeSlotAggregator.toTimeSlotMap(totals), totalDuration,
+                    toStudyNames(studyIds), studyIds));
+            monthStart = nextMonthStart;
+        }
+        return summaries;
+    }
+
+    /**
+     * 1년치 기록 중 한 달만 누적 (범위 밖 기록은 aggregator가 버린다)
+     */
+    @Benchmark
+    public List<DailySummaryDto> dailySummary() {
+        TimeSlotAggregator aggregator = TimeSlotAggregator.forMonth(SyntheticRecords.YEAR, MONTH);
+        for (int i = 0; i < records.size; i++) {
+            int dayIndex = records.dayIndexes[i] - monthOffset;
+            aggregator.add(dayIndex, records.slots[i], records.durations[i]);
+            aggregator.addStudy(dayIndex, records.studyIds[i]);
+        }
+
+        List<DailySummaryDto> summaries = new ArrayList<>(aggregator.getDays());
+        int[] totals = new int[TimeSlotAggregator.SLOT_COUNT];
+        for (int day = 0; day < aggregator.getDays(); day++) {
+            LocalDate date = aggregator.getStartDate().plusDays(day);
+            int totalDuration = aggregator.slotTotals(day, day + 1, totals);
+            List<Long> studyIds = aggregator.studyIds(day, day + 1);
+            summaries.add(new DailySummaryDto(date,
+                    date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN),
+                    TimeSlotAggregator.toTimeSlotMap(totals), totalDuration,
+                    toStudyNames(studyIds), null, studyIds));
+        }
+        return summaries;
+    }
+
+    private List<String> toStudyNames(List<Long> studyIds) {
+        List<String> names = new ArrayList<>(studyIds.size());
+        for (Long studyId : studyIds) {
+            names.add(studyNames.get(studyId));
+        }
+        return names;
+    }
+}
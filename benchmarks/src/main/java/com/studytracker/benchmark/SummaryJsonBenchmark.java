@@ -0,0 +1,114 @@
+package com.studytracker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.studytracker.config.CompactSummaryHttpMessageConverter;
+import com.studytracker.dto.DailySummaryDto;
+import com.studytracker.dto.MonthlySummaryDto;
+import com.studytracker.service.TimeSlotAggregator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월별(12건)/일별(한 달) 집계 응답의 Jackson 직렬화 비용
+ * ObjectMapper는 스프링 MVC와 같은 Jackson2ObjectMapperBuilder 기본값(JavaTimeModule, 날짜 ISO 문자열)으로 만든다
+ * compact* 벤치마크는 압축 표현 변환(CompactSummaryHttpMessageConverter.toCompact)을 포함한 JSON/CBOR 직렬화 비용이며,
+ * 표현별 응답 크기는 준비 단계에서 출력한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SummaryJsonBenchmark {
+
+    private ObjectWriter writer;
+    private ObjectWriter cborWriter;
+    private List<MonthlySummaryDto> monthlySummaries;
+    private List<DailySummaryDto> dailySummaries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+        cborWriter = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build().writer();
+
+        int[] totals = new int[TimeSlotAggregator.SLOT_COUNT];
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] = 30 * (i + 1);
+        }
+        List<String> studyNames = new ArrayList<>();
+        List<Long> studyIds = new ArrayList<>();
+        for (long studyId = 1; studyId <= 5; studyId++) {
+            studyNames.add(SyntheticRecords.studyName(studyId));
+            studyIds.add(studyId);
+        }
+
+        monthlySummaries = new ArrayList<>(12);
+        for (int month = 1; month <= 12; month++) {
+            monthlySummaries.add(new MonthlySummaryDto(month, TimeSlotAggregator.toTimeSlotMap(totals), 630,
+                    studyNames, studyIds));
+        }
+        dailySummaries = new ArrayList<>(31);
+        LocalDate date = LocalDate.of(SyntheticRecords.YEAR, 3, 1);
+        for (int day = 0; day < 31; day++, date = date.plusDays(1)) {
+            dailySummaries.add(new DailySummaryDto(date,
+                    date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN),
+                    TimeSlotAggregator.toTimeSlotMap(totals), 630, studyNames, day % 3 == 0 ? "메모" : null,
+                    studyIds));
+        }
+
+        try {
+            printPayloadSizes("monthly", monthlySummaries);
+            printPayloadSizes("daily", dailySummaries);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Benchmark
+    public byte[] monthlySummary() throws Exception {
+        return writer.writeValueAsBytes(monthlySummaries);
+    }
+
+    @Benchmark
+    public byte[] dailySummary() throws Exception {
+        return writer.writeValueAsBytes(dailySummaries);
+    }
+
+    @Benchmark
+    public byte[] compactJsonMonthlySummary() throws Exception {
+        return writer.writeValueAsBytes(CompactSummaryHttpMessageConverter.toCompact(monthlySummaries));
+    }
+
+    @Benchmark
+    public byte[] compactJsonDailySummary() throws Exception {
+        return writer.writeValueAsBytes(CompactSummaryHttpMessageConverter.toCompact(dailySummaries));
+    }
+
+    @Benchmark
+    public byte[] compactCborMonthlySummary() throws Exception {
+        return cborWriter.writeValueAsBytes(CompactSummaryHttpMessageConverter.toCompact(monthlySummaries));
+    }
+
+    @Benchmark
+    public byte[] compactCborDailySummary() throws Exception {
+        return cborWriter.writeValueAsBytes(CompactSummaryHttpMessageConverter.toCompact(dailySummaries));
+    }
+
+    private void printPayloadSizes(String name, List<?> summaries) throws Exception {
+        System.out.printf("%n%s payload bytes: json=%d, compact-json=%d, compact-cbor=%d%n", name,
+                writer.writeValueAsBytes(summaries).length,
+                writer.writeValueAsBytes(CompactSummaryHttpMessageConverter.toCompact(summaries)).length,
+                cborWriter.writeValueAsBytes(CompactSummaryHttpMessageConverter.toCompact(summaries)).length);
+    }
+}
@@ -0,0 +1,53 @@
+package com.studytracker.service;
+
+import com.studytracker.benchmark.SyntheticRecords;
+import com.studytracker.dto.StudyRecordDto;
+import com.studytracker.entity.StudyRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StudyRecordService.toDto (엔티티 → DTO) 변환 비용
+ * toDto가 패키지 전용이므로 이 벤치마크만 com.studytracker.service 패키지에 둔다
+ * 비교용으로 JPQL 생성자 표현식이 만드는 것과 같은 전체 인자 생성자 경로도 함께 측정한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class StudyRecordMappingBenchmark {
+
+    @Param({"1000", "100000"})
+    public int recordCount;
+
+    private List<StudyRecord> records;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        records = SyntheticRecords.generate(recordCount).toEntities(recordCount);
+    }
+
+    @Benchmark
+    public List<StudyRecordDto> entityToDto() {
+        List<StudyRecordDto> dtos = new ArrayList<>(records.size());
+        for (StudyRecord record : records) {
+            dtos.add(StudyRecordService.toDto(record));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<StudyRecordDto> constructorExpression() {
+        List<StudyRecordDto> dtos = new ArrayList<>(records.size());
+        for (StudyRecord record : records) {
+            dtos.add(new StudyRecordDto(record.getId(), record.getStudy().getId(), record.getStudy().getName(),
+                    record.getStudy().getCategory(), record.getDate(), record.getTimeSlot(), record.getDuration()));
+        }
+        return dtos;
+    }
+}
@@ -0,0 +1,83 @@
+package com.studytracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Async Configuration
+ * 챌린지 집계 조회는 Tomcat 요청 스레드 대신 크기와 대기열이 제한된 전용 스레드 풀에서 실행한다
+ * 풀과 대기열이 모두 차면 즉시 거절되어 503으로 응답하므로, 집계 요청이 몰려도 일반 CRUD 요청은 계속 처리된다
+ * 변경분 스트림(SSE) 전송은 커밋한 요청 스레드를 붙잡지 않도록 단일 스레드 실행기에서 순서대로 처리한다
+ */
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    public static final String SUMMARY_EXECUTOR = "summaryExecutor";
+    public static final String STREAM_EXECUTOR = "streamExecutor";
+
+    @Bean(name = SUMMARY_EXECUTOR)
+    public ThreadPoolTaskExecutor summaryExecutor(
+            @Value("${study-tracker.summary-executor.pool-size:4}") int poolSize,
+            @Value("${study-tracker.summary-executor.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("summary-");
+        executor.setRejectedExecutionHandler(new RejectionCountingPolicy());
+        executor.setTaskDecorator(QueryCounter::propagate);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Bean(name = STREAM_EXECUTOR)
+    public ThreadPoolTaskExecutor streamExecutor(
+            @Value("${study-tracker.stream.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("summary-stream-");
+        return executor;
+    }
+
+    /**
+     * Executor 빈을 직접 등록하면 스프링 부트 기본 실행기가 생성되지 않으므로
+     * 기록 내보내기(StreamingResponseBody) 등 MVC 비동기 처리용 기본 실행기를 같은 설정으로 다시 등록한다
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    @Primary
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.taskDecorator(QueryCounter::propagate).build();
+    }
+
+    /**
+     * 거절 횟수를 세고 AbortPolicy처럼 예외를 던지는 거절 정책 (/api/stats/executor에서 조회)
+     */
+    public static class RejectionCountingPolicy implements RejectedExecutionHandler {
+
+        private final AtomicLong rejectedCount = new AtomicLong();
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            rejectedCount.incrementAndGet();
+            throw new RejectedExecutionException("집계 실행 대기열이 가득 찼습니다");
+        }
+
+        public long getRejectedCount() {
+            return rejectedCount.get();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.studytracker.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache Configuration
+ * 캐시 구현체와 크기/TTL은 application.properties의 spring.cache.* 설정을 따른다
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String MONTHLY_SUMMARY_CACHE = "monthlySummary";
+    public static final String DAILY_SUMMARY_CACHE = "dailySummary";
+    public static final String PERIOD_SUMMARY_CACHE = "periodSummary";
+    public static final String HEATMAP_CACHE = "heatmap";
+}
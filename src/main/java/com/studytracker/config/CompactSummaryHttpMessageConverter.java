@@ -0,0 +1,138 @@
+package com.studytracker.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studytracker.dto.CompactSummaryDto;
+import com.studytracker.dto.DailySummaryDto;
+import com.studytracker.dto.MonthlySummaryDto;
+import com.studytracker.dto.PeriodSummaryDto;
+import com.studytracker.service.TimeSlotAggregator;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 집계 응답 압축 표현 변환기
+ * Accept가 압축 미디어 타입이면 월별/일별/기간 집계 목록을 CompactSummaryDto로 바꿔 쓴다.
+ * 같은 변환을 JSON과 CBOR ObjectMapper로 각각 등록하며, 집계 목록이 아닌 응답과 요청 본문은 다루지 않는다.
+ */
+public class CompactSummaryHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public static final String COMPACT_JSON_VALUE = "application/vnd.studytracker.compact+json";
+    public static final MediaType COMPACT_JSON = MediaType.parseMediaType(COMPACT_JSON_VALUE);
+    public static final String COMPACT_CBOR_VALUE = "application/vnd.studytracker.compact+cbor";
+    public static final MediaType COMPACT_CBOR = MediaType.parseMediaType(COMPACT_CBOR_VALUE);
+
+    private static final List<String> TIME_SLOT_NAMES = timeSlotNames();
+
+    public CompactSummaryHttpMessageConverter(ObjectMapper objectMapper, MediaType mediaType) {
+        super(objectMapper, mediaType);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    /*
+     * 원소 타입은 제네릭 반환 타입(List<MonthlySummaryDto> 등)으로 판단한다
+     * 압축 미디어 타입이 선택된 경우에만 쓴다 (Accept 없음, 와일드카드, application/json은 기본 Jackson 변환기가 처리)
+     * 미디어 타입 없이 묻는 응답 가능 타입 수집에도 응하지 않으므로, 압축 타입은 컨트롤러 매핑의 produces로 노출한다
+     */
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (type == null || mediaType == null || !mediaType.isConcrete() || !List.class.isAssignableFrom(clazz)) {
+            return false;
+        }
+        Class<?> elementClass = ResolvableType.forType(type).asCollection().resolveGeneric(0);
+        return isSummaryClass(elementClass) && canWrite(mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        super.writeInternal(toCompact((List<?>) object), CompactSummaryDto.class, outputMessage);
+    }
+
+    /**
+     * 집계 목록을 압축 표현으로 변환 (벤치마크에서도 사용)
+     */
+    public static CompactSummaryDto toCompact(List<?> summaries) {
+        Map<Long, String> studies = null;
+        List<CompactSummaryDto.Bucket> buckets = new ArrayList<>(summaries.size());
+        for (Object summary : summaries) {
+            CompactSummaryDto.Bucket bucket = new CompactSummaryDto.Bucket();
+            if (summary instanceof MonthlySummaryDto) {
+                MonthlySummaryDto monthly = (MonthlySummaryDto) summary;
+                bucket.setMonth(monthly.getMonth());
+                bucket.setTotals(TimeSlotAggregator.toTotals(monthly.getTimeSlotTotals()));
+                bucket.setTotal(monthly.getTotalDuration());
+                studies = addStudies(studies, bucket, monthly.getStudyIds(), monthly.getStudyNames());
+            } else if (summary instanceof DailySummaryDto) {
+                DailySummaryDto daily = (DailySummaryDto) summary;
+                bucket.setDate(daily.getDate());
+                bucket.setTotals(TimeSlotAggregator.toTotals(daily.getTimeSlotTotals()));
+                bucket.setTotal(daily.getTotalDuration());
+                bucket.setMemo(daily.getMemo());
+                studies = addStudies(studies, bucket, daily.getStudyIds(), daily.getStudyNames());
+            } else {
+                PeriodSummaryDto period = (PeriodSummaryDto) summary;
+                bucket.setStartDate(period.getStartDate());
+                bucket.setEndDate(period.getEndDate());
+                bucket.setTotals(TimeSlotAggregator.toTotals(period.getTimeSlotTotals()));
+                bucket.setTotal(period.getTotalDuration());
+            }
+            buckets.add(bucket);
+        }
+        return new CompactSummaryDto(TIME_SLOT_NAMES, studies, buckets);
+    }
+
+    private static Map<Long, String> addStudies(Map<Long, String> studies, CompactSummaryDto.Bucket bucket,
+                                                List<Long> studyIds, List<String> studyNames) {
+        if (studies == null) {
+            studies = new LinkedHashMap<>();
+        }
+        if (studyIds == null) {
+            return studies;
+        }
+        long[] ids = new long[studyIds.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = studyIds.get(i);
+            studies.putIfAbsent(ids[i], studyNames.get(i));
+        }
+        bucket.setStudyIds(ids);
+        return studies;
+    }
+
+    private static boolean isSummaryClass(Class<?> elementClass) {
+        return elementClass == MonthlySummaryDto.class
+                || elementClass == DailySummaryDto.class
+                || elementClass == PeriodSummaryDto.class;
+    }
+
+    private static List<String> timeSlotNames() {
+        List<String> names = new ArrayList<>(TimeSlotAggregator.SLOT_COUNT);
+        for (int i = 0; i < TimeSlotAggregator.SLOT_COUNT; i++) {
+            names.add(TimeSlotAggregator.TIME_SLOTS[i].name());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,41 @@
+package com.studytracker.config;
+
+import com.studytracker.entity.StudyRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ID Sequence Initializer
+ * study_records ID가 AUTO_INCREMENT에서 pooled-lo 시퀀스로 바뀌면서 새로 생긴 study_records_seq 테이블(MySQL)이
+ * 기존 기록의 최대 ID보다 작은 값에서 시작하지 않도록 시작 시 맞춰 둔다
+ * 웹 서버는 모든 싱글톤 생성 후(컨텍스트 refresh 마지막 단계)에 요청을 받기 시작하므로,
+ * ApplicationRunner가 아닌 싱글톤 생성 완료 시점에 보정해 보정 전 INSERT가 끼어들지 않게 한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String databaseName = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        // 시퀀스를 지원하는 DB(H2 등)는 스키마 생성 시점에 이미 비어 있으므로 MySQL 테이블 방식만 보정
+        if (!"MySQL".equalsIgnoreCase(databaseName)) {
+            return;
+        }
+        int updated = jdbcTemplate.update(
+                "UPDATE " + StudyRecord.ID_SEQUENCE + " SET next_val = " +
+                "(SELECT COALESCE(MAX(id), 0) + 1 FROM study_records) " +
+                "WHERE next_val <= (SELECT COALESCE(MAX(id), 0) FROM study_records)");
+        if (updated > 0) {
+            log.info("{} 값을 study_records 최대 ID 이후로 보정", StudyRecord.ID_SEQUENCE);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.studytracker.config;
+
+import org.springframework.core.io.Resource;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.web.servlet.resource.ResourceTransformerChain;
+import org.springframework.web.servlet.resource.ResourceTransformerSupport;
+import org.springframework.web.servlet.resource.TransformedResource;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * index.html의 상대 경로 src/href를 콘텐츠 해시가 붙은 URL(app-{hash}.js 등)로 바꾸는 변환기
+ * CSS용 CssLinkResourceTransformer와 같은 방식으로 리소스 체인의 VersionResourceResolver에 경로를 묻는다
+ */
+public class IndexHtmlResourceTransformer extends ResourceTransformerSupport {
+
+    private static final Pattern LINK_PATTERN = Pattern.compile("(\\b(?:src|href)=\")([^\"]+)(\")");
+
+    @Override
+    public Resource transform(HttpServletRequest request, Resource resource,
+                              ResourceTransformerChain transformerChain) throws IOException {
+        resource = transformerChain.transform(request, resource);
+        String filename = resource.getFilename();
+        if (filename == null || !filename.endsWith(".html")) {
+            return resource;
+        }
+
+        String html = new String(FileCopyUtils.copyToByteArray(resource.getInputStream()), StandardCharsets.UTF_8);
+        Matcher matcher = LINK_PATTERN.matcher(html);
+        StringBuffer rewritten = new StringBuffer(html.length() + 128);
+        while (matcher.find()) {
+            String link = matcher.group(2);
+            String versionedLink = isLocalLink(link)
+                    ? resolveUrlPath(link, request, resource, transformerChain)
+                    : null;
+            matcher.appendReplacement(rewritten, Matcher.quoteReplacement(
+                    matcher.group(1) + (versionedLink != null ? versionedLink : link) + matcher.group(3)));
+        }
+        matcher.appendTail(rewritten);
+        return new TransformedResource(resource, rewritten.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean isLocalLink(String link) {
+        return !link.isEmpty() && !link.startsWith("#") && !link.startsWith("//") && !link.contains(":");
+    }
+}
@@ -0,0 +1,22 @@
+package com.studytracker.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics Configuration
+ * 컨트롤러 요청(http.server.requests), Hikari 풀, Hibernate 통계, 캐시/실행기 메트릭은 스프링 부트가 자동 등록하고
+ * 여기서는 서비스 메서드의 @Timed를 처리하는 TimedAspect만 등록한다
+ */
+@Configuration
+public class MetricsConfig {
+
+    public static final String CHALLENGE_SERVICE_TIMER = "studytracker.challenge.service";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
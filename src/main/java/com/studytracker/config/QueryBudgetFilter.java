@@ -0,0 +1,57 @@
+package com.studytracker.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청마다 SQL 문 카운터(QueryCounter)를 연결하고, 요청이 끝났을 때 예산을 넘었으면 경고 로그를 남긴다
+ * 비동기 요청(CompletableFuture, StreamingResponseBody)은 요청 속성에 둔 같은 카운터를 비동기 디스패치에서도 이어 쓴다
+ */
+@Slf4j
+@Component
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final int maxStatements;
+
+    public QueryBudgetFilter(@Value("${study-tracker.query-budget.max-statements:20}") int maxStatements) {
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AtomicInteger counter = (AtomicInteger) request.getAttribute(QueryCounter.REQUEST_ATTRIBUTE);
+        if (counter == null) {
+            counter = new AtomicInteger();
+            request.setAttribute(QueryCounter.REQUEST_ATTRIBUTE, counter);
+        }
+
+        QueryCounter.bind(counter);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCounter.unbind();
+        }
+
+        if (!isAsyncStarted(request) && counter.get() > maxStatements) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            log.warn("SQL 문 예산 초과: {} {} - {}개 실행 (예산 {}개)", request.getMethod(),
+                    pattern != null ? pattern : request.getRequestURI(), counter.get(), maxStatements);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.studytracker.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 응답 본문을 쓰기 직전에 지금까지 실행된 SQL 문 수를 X-Query-Count 헤더로 내려준다 (운영(prod) 프로필에서는 끔)
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "study-tracker.query-budget.expose-header", havingValue = "true")
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-Query-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest) {
+            Object counter = ((ServletServerHttpRequest) request).getServletRequest()
+                    .getAttribute(QueryCounter.REQUEST_ATTRIBUTE);
+            if (counter instanceof AtomicInteger) {
+                response.getHeaders().set(HEADER, String.valueOf(((AtomicInteger) counter).get()));
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,72 @@
+package com.studytracker.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 단위 SQL 문 카운터
+ * Hibernate가 SQL 문을 준비할 때마다 현재 스레드에 연결된 카운터를 올린다 (JdbcTemplate 등 Hibernate 밖의 SQL은 세지 않음)
+ * hibernate.session_factory.statement_inspector 설정으로 등록되며, 카운터는 QueryBudgetFilter가 요청마다 연결한다
+ */
+public class QueryCounter implements StatementInspector {
+
+    public static final String REQUEST_ATTRIBUTE = QueryCounter.class.getName() + ".COUNTER";
+
+    private static final ThreadLocal<AtomicInteger> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        AtomicInteger counter = CURRENT.get();
+        if (counter != null) {
+            counter.incrementAndGet();
+        }
+        return sql;
+    }
+
+    public static AtomicInteger current() {
+        return CURRENT.get();
+    }
+
+    public static void bind(AtomicInteger counter) {
+        CURRENT.set(counter);
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * action 실행 중 준비된 SQL 문 수 (테스트용)
+     */
+    public static int count(Runnable action) {
+        AtomicInteger previous = CURRENT.get();
+        AtomicInteger counter = new AtomicInteger();
+        CURRENT.set(counter);
+        try {
+            action.run();
+        } finally {
+            CURRENT.set(previous);
+        }
+        return counter.get();
+    }
+
+    /**
+     * 비동기 실행기의 TaskDecorator: 작업을 제출한 요청의 카운터를 작업 스레드에도 연결한다
+     */
+    public static Runnable propagate(Runnable task) {
+        AtomicInteger counter = CURRENT.get();
+        if (counter == null) {
+            return task;
+        }
+        return () -> {
+            AtomicInteger previous = CURRENT.get();
+            CURRENT.set(counter);
+            try {
+                task.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package com.studytracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Replica DataSource Configuration
+ * study-tracker.datasource.replica.url이 설정된 경우에만 주 DB(spring.datasource.*)와 복제본 커넥션 풀을 따로 만들고
+ * @Transactional(readOnly = true) 서비스 호출이 복제본을 쓰도록 라우팅한다 (설정이 없으면 스프링 부트 기본 DataSource 사용)
+ * stickiness 창은 Clock 빈이 있으면 그 시계로 계산한다 (없으면 시스템 시계, 테스트에서 시간을 직접 진행시키기 위함)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "study-tracker.datasource.replica", name = "url")
+public class ReplicaDataSourceConfig {
+
+    public static final String PRIMARY_DATA_SOURCE = "primaryDataSource";
+    public static final String REPLICA_DATA_SOURCE = "replicaDataSource";
+
+    @Bean(name = PRIMARY_DATA_SOURCE)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(name = REPLICA_DATA_SOURCE)
+    @ConfigurationProperties("study-tracker.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Value("${study-tracker.datasource.replica.url}") String url,
+            @Value("${study-tracker.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${study-tracker.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${study-tracker.datasource.replica.driver-class-name:${spring.datasource.driver-class-name:}}")
+                    String driverClassName) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .driverClassName(driverClassName.isEmpty() ? null : driverClassName)
+                .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier(PRIMARY_DATA_SOURCE) DataSource primaryDataSource,
+            @Qualifier(REPLICA_DATA_SOURCE) DataSource replicaDataSource,
+            @Value("${study-tracker.datasource.replica.stickiness:2s}") Duration stickiness,
+            ObjectProvider<Clock> clock) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReplicaRoutingDataSource.Target.PRIMARY, primaryDataSource);
+        targets.put(ReplicaRoutingDataSource.Target.REPLICA, replicaDataSource);
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(
+                stickiness, clock.getIfAvailable(Clock::systemUTC));
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
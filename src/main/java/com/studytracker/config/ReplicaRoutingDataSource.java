@@ -0,0 +1,56 @@
+package com.studytracker.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본(replica)으로, 그 외(쓰기 트랜잭션, 트랜잭션 밖의 JDBC)는 주 DB(primary)로 보내는 DataSource
+ * 쓰기 트랜잭션이 커밋된 뒤 stickiness 동안은 읽기도 주 DB로 보내 복제 지연 중에 방금 쓴 값을 놓치지 않게 한다
+ * (사용자 구분이 없는 앱이므로 창은 전역으로 적용)
+ *
+ * 트랜잭션의 readOnly 여부는 커넥션을 얻는 시점에 확정되어 있어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용한다
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final long stickinessMillis;
+    private final Clock clock;
+    private volatile long lastWriteMillis;
+
+    public ReplicaRoutingDataSource(Duration stickiness, Clock clock) {
+        this.stickinessMillis = stickiness.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriteOnCommit();
+            return Target.PRIMARY;
+        }
+        return isSticky() ? Target.PRIMARY : Target.REPLICA;
+    }
+
+    private boolean isSticky() {
+        return clock.millis() - lastWriteMillis < stickinessMillis;
+    }
+
+    private void markWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWriteMillis = clock.millis();
+            }
+        });
+    }
+}
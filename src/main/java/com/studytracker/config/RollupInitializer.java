@@ -0,0 +1,30 @@
+package com.studytracker.config;
+
+import com.studytracker.service.StudyRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rollup Initializer
+ * 애플리케이션 시작 시 daily_study_rollup 집계 테이블 준비
+ * --rebuild-rollup 옵션으로 실행하면 study_records로부터 강제로 재계산
+ */
+@Component
+@RequiredArgsConstructor
+public class RollupInitializer implements ApplicationRunner {
+
+    static final String REBUILD_OPTION = "rebuild-rollup";
+
+    private final StudyRollupService studyRollupService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(REBUILD_OPTION)) {
+            studyRollupService.rebuild();
+        } else {
+            studyRollupService.rebuildIfEmpty();
+        }
+    }
+}
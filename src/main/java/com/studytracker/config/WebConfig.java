@@ -1,17 +1,44 @@
 package com.studytracker.config;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+import java.util.List;
 
 /**
  * Web Configuration
- * CORS 및 기타 웹 관련 설정
+ * CORS, 정적 리소스, 집계 응답 압축 표현 설정
+ *
+ * 정적 리소스는 콘텐츠 해시 버전 URL(app-{md5}.js)로 제공하고 1년간 변경되지 않는 것으로 캐시한다.
+ * 빌드 시 미리 만든 .br/.gz 파일이 있으면 Accept-Encoding에 맞춰 그대로 내려보낸다.
+ * index.html은 해시 URL로 링크를 바꿔 제공하며, 배포 후 새 해시를 받도록 매번 재검증(ETag)한다.
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private static final String STATIC_LOCATION = "classpath:/static/";
+    private static final String INDEX_PATH = "/index.html";
+    // VersionResourceResolver 콘텐츠 전략이 만드는 파일명: {이름}-{md5 32자}.{확장자}
+    private static final String VERSIONED_ASSET_PATTERN = "/{file:[\\w.-]+-[0-9a-f]{32}\\.(?:js|css)}";
+    private static final Duration VERSIONED_ASSET_MAX_AGE = Duration.ofDays(365);
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder; // 부트 설정이 적용된 빌더 (요청마다 새 인스턴스)
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -22,13 +49,63 @@ public class WebConfig implements WebMvcConfigurer {
                 .maxAge(3600);
     }
 
+    /**
+     * 압축 표현 변환기는 application/*+json을 받는 기본 Jackson 변환기보다 앞에 둔다
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new CompactSummaryHttpMessageConverter(
+                objectMapperBuilder.getObject().build(), CompactSummaryHttpMessageConverter.COMPACT_JSON));
+        converters.add(1, new CompactSummaryHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new CBORFactory()).build(),
+                CompactSummaryHttpMessageConverter.COMPACT_CBOR));
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 정적 리소스는 기본 위치(/static)에서 제공
-        // Spring Boot가 자동으로 처리하므로 명시적으로 추가할 필요 없음
-        // 하지만 명확성을 위해 추가
+        // 해시가 붙은 URL은 내용이 바뀌면 URL도 바뀌므로 1년간 재검증 없이 캐시
+        registry.addResourceHandler(VERSIONED_ASSET_PATTERN)
+                .addResourceLocations(STATIC_LOCATION)
+                .setCacheControl(immutable(CacheControl.maxAge(VERSIONED_ASSET_MAX_AGE).cachePublic()))
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+
+        // index.html은 링크를 해시 URL로 바꿔 제공 (Last-Modified 대신 변환 결과의 ETag로 재검증)
+        registry.addResourceHandler(INDEX_PATH)
+                .addResourceLocations(STATIC_LOCATION)
+                .setCacheControl(CacheControl.noCache())
+                .setUseLastModified(false)
+                .resourceChain(true)
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"))
+                .addTransformer(new IndexHtmlResourceTransformer());
+
+        // 그 밖의 경로(해시 없이 요청한 app.js 등)는 캐시하되 매번 재검증
         registry.addResourceHandler("/**")
-                .addResourceLocations("classpath:/static/");
+                .addResourceLocations(STATIC_LOCATION)
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> indexEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+                new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/", INDEX_PATH);
+        return registration;
     }
-}
 
+    /**
+     * CacheControl에 immutable 지시자 추가 (Spring 5.3의 CacheControl에는 immutable()이 없음)
+     */
+    private static CacheControl immutable(CacheControl cacheControl) {
+        return new CacheControl() {
+            @Override
+            public String getHeaderValue() {
+                return cacheControl.getHeaderValue() + ", immutable";
+            }
+        };
+    }
+}
@@ -1,33 +1,218 @@
 package com.studytracker.controller;
 
+import com.studytracker.config.CompactSummaryHttpMessageConverter;
 import com.studytracker.dto.DailySummaryDto;
+import com.studytracker.dto.HeatmapDto;
 import com.studytracker.dto.MonthlySummaryDto;
+import com.studytracker.dto.PeriodSummaryDto;
+import com.studytracker.dto.StreakDto;
 import com.studytracker.service.ChallengeService;
+import com.studytracker.service.ChallengeService.Granularity;
+import com.studytracker.service.DataVersionService;
+import com.studytracker.service.DataVersionService.DataVersion;
+import com.studytracker.service.StudyRollupService;
+import com.studytracker.service.StudyStreakTracker;
+import com.studytracker.service.SummaryEventStream;
+import com.studytracker.service.SummaryTaskRunner;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/challenge")
 @RequiredArgsConstructor
 public class ChallengeController {
     
+    private static final int MAX_PERIOD_YEARS = 10;
+    // 월별/일별/기간 집계 매핑의 produces 순서
+    private static final List<MediaType> SUMMARY_MEDIA_TYPES = List.of(MediaType.APPLICATION_JSON,
+            CompactSummaryHttpMessageConverter.COMPACT_JSON, CompactSummaryHttpMessageConverter.COMPACT_CBOR);
+    
     private final ChallengeService challengeService;
+    private final StudyRollupService studyRollupService;
+    private final DataVersionService dataVersionService;
+    private final SummaryTaskRunner summaryTaskRunner;
+    private final StudyStreakTracker studyStreakTracker;
+    private final SummaryEventStream summaryEventStream;
     
-    @GetMapping("/monthly/{year}")
-    public ResponseEntity<List<MonthlySummaryDto>> getMonthlySummary(@PathVariable int year) {
-        List<MonthlySummaryDto> summaries = challengeService.getMonthlySummary(year);
-        return ResponseEntity.ok(summaries);
+    /*
+     * 집계 조회는 데이터 버전으로 ETag/Last-Modified를 발급하고,
+     * If-None-Match가 일치하면 집계를 실행하지 않고 304로 응답한다
+     * 집계 자체는 요청 스레드가 아닌 summaryExecutor에서 실행된다 (포화 시 503)
+     * 월별/일별/기간 집계는 Accept로 압축 표현(JSON, CBOR)을 고를 수 있으며,
+     * produces의 첫 타입이 기본 JSON이므로 Accept가 없거나 모든 타입을 허용하면 기본 JSON으로 응답한다
+     */
+    @GetMapping(value = "/monthly/{year}", produces = {MediaType.APPLICATION_JSON_VALUE,
+            CompactSummaryHttpMessageConverter.COMPACT_JSON_VALUE, CompactSummaryHttpMessageConverter.COMPACT_CBOR_VALUE})
+    public CompletableFuture<ResponseEntity<List<MonthlySummaryDto>>> getMonthlySummary(
+            @PathVariable int year, WebRequest request) {
+        DataVersion version = dataVersionService.monthlyVersion(year);
+        if (request.checkNotModified(representationETag(version, request), version.getLastModified())) {
+            return notModified();
+        }
+        return summaryTaskRunner.submit(() -> summaryResponse()
+                .body(challengeService.getMonthlySummary(year)));
     }
     
-    @GetMapping("/daily/{year}/{month}")
-    public ResponseEntity<List<DailySummaryDto>> getDailySummary(
+    @GetMapping(value = "/daily/{year}/{month}", produces = {MediaType.APPLICATION_JSON_VALUE,
+            CompactSummaryHttpMessageConverter.COMPACT_JSON_VALUE, CompactSummaryHttpMessageConverter.COMPACT_CBOR_VALUE})
+    public CompletableFuture<ResponseEntity<List<DailySummaryDto>>> getDailySummary(
             @PathVariable int year,
-            @PathVariable int month) {
-        List<DailySummaryDto> summaries = challengeService.getDailySummary(year, month);
-        return ResponseEntity.ok(summaries);
+            @PathVariable int month,
+            WebRequest request) {
+        DataVersion version = dataVersionService.dailyVersion(year, month);
+        if (request.checkNotModified(representationETag(version, request), version.getLastModified())) {
+            return notModified();
+        }
+        return summaryTaskRunner.submit(() -> summaryResponse()
+                .body(challengeService.getDailySummary(year, month)));
+    }
+    
+    /**
+     * 집계 변경분 스트림 (SSE) - 구독 수가 상한에 도달하면 503
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamSummaryDeltas() {
+        SseEmitter emitter = summaryEventStream.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(emitter);
+    }
+    
+    /**
+     * 연간 히트맵 (일자별 총합계 배열, 월별 집계와 같은 버전을 따른다)
+     */
+    @GetMapping("/heatmap/{year}")
+    public CompletableFuture<ResponseEntity<HeatmapDto>> getHeatmap(@PathVariable int year, WebRequest request) {
+        DataVersion version = dataVersionService.monthlyVersion(year);
+        if (request.checkNotModified(version.getETag(), version.getLastModified())) {
+            return notModified();
+        }
+        return summaryTaskRunner.submit(() -> summaryResponse()
+                .body(challengeService.getHeatmap(year)));
+    }
+    
+    /**
+     * 현재/최장 연속 학습일 (메모리에 유지되는 구간에서 바로 계산하므로 집계 실행기를 거치지 않음)
+     */
+    @GetMapping("/streak")
+    public ResponseEntity<StreakDto> getStreak() {
+        return ResponseEntity.ok(studyStreakTracker.getStreak(LocalDate.now()));
+    }
+    
+    /**
+     * 기간 집계 (from/to 종료일 포함, granularity: day|week|month|year)
+     * studyId를 지정하면 해당 스터디의 기록만 합산한다
+     */
+    @GetMapping(value = "/summary", produces = {MediaType.APPLICATION_JSON_VALUE,
+            CompactSummaryHttpMessageConverter.COMPACT_JSON_VALUE, CompactSummaryHttpMessageConverter.COMPACT_CBOR_VALUE})
+    public CompletableFuture<ResponseEntity<List<PeriodSummaryDto>>> getPeriodSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam(required = false) Long studyId,
+            WebRequest request) {
+        Granularity summaryGranularity = Granularity.from(granularity);
+        if (from.isAfter(to)) {
+            throw new RuntimeException("시작 날짜는 종료 날짜보다 이전이어야 합니다");
+        }
+        if (to.isAfter(from.plusYears(MAX_PERIOD_YEARS))) {
+            throw new RuntimeException("조회 기간은 최대 " + MAX_PERIOD_YEARS + "년입니다");
+        }
+        
+        DataVersion version = dataVersionService.periodVersion(from, to);
+        if (request.checkNotModified(representationETag(version, request), version.getLastModified())) {
+            return notModified();
+        }
+        return summaryTaskRunner.submit(() -> summaryResponse()
+                .body(challengeService.getPeriodSummary(from, to, summaryGranularity, studyId)));
+    }
+    
+    @PostMapping("/rollup/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildRollup() {
+        int rows = studyRollupService.rebuild();
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("rollupRows", rows);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/rollup/verify")
+    public ResponseEntity<Map<String, Object>> verifyRollup(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        List<String> mismatches = studyRollupService.findMismatches(startDate, endDate.plusDays(1));
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", mismatches.isEmpty() ? "success" : "mismatch");
+        response.put("mismatches", mismatches);
+        return ResponseEntity.ok(response);
+    }
+    
+    /*
+     * 표현마다 본문이 다르므로 강한 ETag도 표현별로 달라야 한다 (같으면 다른 표현의 캐시 사본이 304로 재검증된다)
+     * produces 순서와 Accept로 메시지 변환기와 같은 표현을 골라, 압축 표현이면 ETag에 접미사를 붙인다
+     */
+    private String representationETag(DataVersion version, WebRequest request) {
+        MediaType representation = negotiateSummaryMediaType(request.getHeader(HttpHeaders.ACCEPT));
+        if (representation.equals(CompactSummaryHttpMessageConverter.COMPACT_JSON)) {
+            return withETagSuffix(version.getETag(), "compact");
+        }
+        if (representation.equals(CompactSummaryHttpMessageConverter.COMPACT_CBOR)) {
+            return withETagSuffix(version.getETag(), "cbor");
+        }
+        return version.getETag();
+    }
+    
+    private MediaType negotiateSummaryMediaType(String accept) {
+        List<MediaType> acceptable = accept != null ? MediaType.parseMediaTypes(accept) : null;
+        if (acceptable == null || acceptable.isEmpty()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        MediaType.sortBySpecificityAndQuality(acceptable);
+        for (MediaType acceptableType : acceptable) {
+            for (MediaType summaryType : SUMMARY_MEDIA_TYPES) {
+                if (acceptableType.isCompatibleWith(summaryType)) {
+                    return summaryType;
+                }
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+    
+    private static String withETagSuffix(String eTag, String suffix) {
+        return eTag.substring(0, eTag.length() - 1) + "-" + suffix + "\"";
+    }
+    
+    /*
+     * 집계 응답은 Accept에 따라 기본/압축(JSON, CBOR) 표현으로 나뉘므로 캐시가 표현별로 저장하도록 Vary를 붙인다
+     */
+    private ResponseEntity.BodyBuilder summaryResponse() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT);
+    }
+    
+    private <T> CompletableFuture<ResponseEntity<T>> notModified() {
+        return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .varyBy(HttpHeaders.ACCEPT)
+                .build());
     }
 }
-
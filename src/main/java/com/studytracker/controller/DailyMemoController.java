@@ -1,6 +1,7 @@
 package com.studytracker.controller;
 
 import com.studytracker.dto.DailyMemoDto;
+import com.studytracker.dto.DailyMemoSaveResultDto;
 import com.studytracker.service.DailyMemoService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @RestController
@@ -19,8 +21,26 @@ import java.util.Optional;
 @Validated
 public class DailyMemoController {
     
+    private static final int MAX_RANGE_DAYS = 366;
+    
     private final DailyMemoService dailyMemoService;
     
+    /**
+     * 기간 메모 목록 (from/to 종료일 포함, 최대 366일) - 한 달 치 메모를 한 번의 쿼리로 조회
+     */
+    @GetMapping
+    public ResponseEntity<List<DailyMemoDto>> getMemos(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new RuntimeException("시작 날짜는 종료 날짜보다 이전이어야 합니다");
+        }
+        if (!to.isBefore(from.plusDays(MAX_RANGE_DAYS))) {
+            throw new RuntimeException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다");
+        }
+        return ResponseEntity.ok(dailyMemoService.getMemos(from, to));
+    }
+    
     @GetMapping("/{date}")
     public ResponseEntity<DailyMemoDto> getMemoByDate(
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
@@ -30,10 +50,10 @@ public class DailyMemoController {
     }
     
     @PutMapping("/{date}")
-    public ResponseEntity<DailyMemoDto> saveMemo(
+    public ResponseEntity<DailyMemoSaveResultDto> saveMemo(
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @Valid @RequestBody DailyMemoDto dto) {
-        DailyMemoDto saved = dailyMemoService.saveMemo(date, dto.getMemo());
+        DailyMemoSaveResultDto saved = dailyMemoService.saveMemo(date, dto.getMemo());
         return ResponseEntity.ok(saved);
     }
 }
@@ -1,5 +1,10 @@
 package com.studytracker.controller;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -11,18 +16,23 @@ import java.util.Map;
 /**
  * Health Check Controller
  * 애플리케이션 상태 확인용 엔드포인트
+ * 상태는 Actuator 헬스 지표(DB 연결 등)를 그대로 따르며, UP이 아니면 503으로 응답한다
  */
 @RestController
 @RequestMapping("/api/health")
+@RequiredArgsConstructor
 public class HealthCheckController {
 
+    private final HealthEndpoint healthEndpoint;
+
     @GetMapping
     public ResponseEntity<Map<String, Object>> healthCheck() {
+        HealthComponent health = healthEndpoint.health();
         Map<String, Object> response = new HashMap<>();
-        response.put("status", "UP");
+        response.put("status", health.getStatus().getCode());
         response.put("service", "study-tracker-backend");
         response.put("timestamp", System.currentTimeMillis());
-        return ResponseEntity.ok(response);
+        HttpStatus status = Status.UP.equals(health.getStatus()) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(response);
     }
 }
-
@@ -0,0 +1,117 @@
+package com.studytracker.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.studytracker.config.AsyncConfig.RejectionCountingPolicy;
+import com.studytracker.service.SummaryTaskRunner;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Stats Controller
+ * 캐시 크기 산정을 위한 운영 통계 엔드포인트
+ */
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+    private final SummaryTaskRunner summaryTaskRunner;
+
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        Map<String, Object> response = new LinkedHashMap<>();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache)) {
+                continue;
+            }
+            com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache =
+                    (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache();
+            CacheStats stats = nativeCache.stats();
+
+            Map<String, Object> cacheStats = new LinkedHashMap<>();
+            cacheStats.put("size", nativeCache.estimatedSize());
+            cacheStats.put("hitCount", stats.hitCount());
+            cacheStats.put("missCount", stats.missCount());
+            cacheStats.put("hitRate", stats.hitRate());
+            cacheStats.put("evictionCount", stats.evictionCount());
+            response.put(cacheName, cacheStats);
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Hibernate 2차 캐시 영역별 통계와 쿼리 캐시 통계
+     */
+    @GetMapping("/second-level-cache")
+    public ResponseEntity<Map<String, Object>> getSecondLevelCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStats = statistics.getCacheRegionStatistics(regionName);
+            if (regionStats == null) {
+                continue;
+            }
+            Map<String, Object> region = new LinkedHashMap<>();
+            // JCache는 영역의 요소 수를 제공하지 않으므로(음수 반환) 알 수 있을 때만 포함
+            if (regionStats.getElementCountInMemory() >= 0) {
+                region.put("elementCount", regionStats.getElementCountInMemory());
+            }
+            region.put("hitCount", regionStats.getHitCount());
+            region.put("missCount", regionStats.getMissCount());
+            region.put("putCount", regionStats.getPutCount());
+            regions.put(regionName, region);
+        }
+
+        Map<String, Object> queryCache = new LinkedHashMap<>();
+        queryCache.put("hitCount", statistics.getQueryCacheHitCount());
+        queryCache.put("missCount", statistics.getQueryCacheMissCount());
+        queryCache.put("putCount", statistics.getQueryCachePutCount());
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        response.put("regions", regions);
+        response.put("queryCache", queryCache);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 챌린지 집계 실행기(summaryExecutor)의 스레드/대기열 사용량과 거절 횟수
+     */
+    @GetMapping("/executor")
+    public ResponseEntity<Map<String, Object>> getExecutorStats() {
+        ThreadPoolTaskExecutor executor = summaryTaskRunner.getExecutor();
+        ThreadPoolExecutor threadPool = executor.getThreadPoolExecutor();
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("poolSize", threadPool.getPoolSize());
+        response.put("maxPoolSize", threadPool.getMaximumPoolSize());
+        response.put("activeCount", threadPool.getActiveCount());
+        response.put("queueSize", threadPool.getQueue().size());
+        response.put("queueRemainingCapacity", threadPool.getQueue().remainingCapacity());
+        response.put("completedTaskCount", threadPool.getCompletedTaskCount());
+        RejectedExecutionHandler handler = threadPool.getRejectedExecutionHandler();
+        if (handler instanceof RejectionCountingPolicy) {
+            response.put("rejectedCount", ((RejectionCountingPolicy) handler).getRejectedCount());
+        }
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,12 +1,16 @@
 package com.studytracker.controller;
 
 import com.studytracker.dto.StudyDto;
+import com.studytracker.service.DataVersionService;
+import com.studytracker.service.DataVersionService.DataVersion;
 import com.studytracker.service.StudyService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -18,11 +22,16 @@ import java.util.List;
 public class StudyController {
     
     private final StudyService studyService;
+    private final DataVersionService dataVersionService;
     
     @GetMapping
-    public ResponseEntity<List<StudyDto>> getAllStudies() {
+    public ResponseEntity<List<StudyDto>> getAllStudies(WebRequest request) {
+        DataVersion version = dataVersionService.studiesVersion();
+        if (request.checkNotModified(version.getETag(), version.getLastModified())) {
+            return null;
+        }
         List<StudyDto> studies = studyService.getAllStudies();
-        return ResponseEntity.ok(studies);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(studies);
     }
     
     @GetMapping("/{id}")
@@ -1,15 +1,27 @@
 package com.studytracker.controller;
 
+import com.studytracker.dto.StudyRecordBatchResultDto;
+import com.studytracker.dto.StudyRecordChangesDto;
+import com.studytracker.dto.StudyRecordChangesResultDto;
 import com.studytracker.dto.StudyRecordDto;
+import com.studytracker.dto.StudyRecordPageDto;
+import com.studytracker.service.StudyRecordExportService;
+import com.studytracker.service.StudyRecordExportService.ExportFormat;
+import com.studytracker.service.StudyRecordImportService;
 import com.studytracker.service.StudyRecordService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -19,28 +31,74 @@ import java.util.List;
 @Validated
 public class StudyRecordController {
     
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    
     private final StudyRecordService studyRecordService;
+    private final StudyRecordExportService studyRecordExportService;
+    private final StudyRecordImportService studyRecordImportService;
     
+    /**
+     * 기록 목록 조회
+     * date 조회는 하루치 목록을 그대로 반환하고, 전체/기간/연도 조회는 한 번에 읽는 행 수가 제한되도록
+     * 항상 (date, id) 키셋 페이지({records, nextCursor})로 반환한다 (limit 생략 시 DEFAULT_PAGE_SIZE)
+     */
     @GetMapping
-    public ResponseEntity<List<StudyRecordDto>> getAllRecords(
+    public ResponseEntity<?> getAllRecords(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestParam(required = false) Integer year) {
-        
-        List<StudyRecordDto> records;
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         
         if (date != null) {
-            records = studyRecordService.getRecordsByDate(date);
-        } else if (startDate != null && endDate != null) {
-            records = studyRecordService.getRecordsByDateRange(startDate, endDate);
-        } else if (year != null) {
-            records = studyRecordService.getRecordsByYear(year);
-        } else {
-            records = studyRecordService.getAllRecords();
+            return ResponseEntity.ok(studyRecordService.getRecordsByDate(date));
+        }
+        
+        int pageSize = limit != null ? limit : StudyRecordService.DEFAULT_PAGE_SIZE;
+        
+        if (startDate != null && endDate != null) {
+            return ResponseEntity.ok(studyRecordService.getRecordPage(
+                    startDate, endDate.plusDays(1), cursor, pageSize));
+        }
+        if (year != null) {
+            LocalDate yearStart = LocalDate.of(year, 1, 1);
+            return ResponseEntity.ok(studyRecordService.getRecordPage(
+                    yearStart, yearStart.plusYears(1), cursor, pageSize));
         }
         
-        return ResponseEntity.ok(records);
+        StudyRecordPageDto page = studyRecordService.getRecordPage(null, null, cursor, pageSize);
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * 기록 내보내기 (NDJSON/CSV 스트리밍)
+     * from/to는 함께 지정하며(종료일 포함), 생략하면 전체 기록을 내보낸다
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRecords(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        
+        // 응답 스트림이 시작되기 전에 파라미터 오류를 400으로 돌려주기 위해 먼저 검증
+        ExportFormat exportFormat = ExportFormat.from(format);
+        if ((from == null) != (to == null)) {
+            throw new RuntimeException("from과 to는 함께 지정해야 합니다");
+        }
+        if (from != null && from.isAfter(to)) {
+            throw new RuntimeException("시작 날짜는 종료 날짜보다 이전이어야 합니다");
+        }
+        LocalDate endDate = to != null ? to.plusDays(1) : null;
+        
+        StreamingResponseBody body = outputStream ->
+                studyRecordExportService.exportRecords(from, endDate, exportFormat, outputStream);
+        
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"study-records." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
     
     @GetMapping("/{id}")
@@ -55,6 +113,28 @@ public class StudyRecordController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
     
+    /**
+     * 기록 일괄 등록
+     * JSON 배열(application/json) 또는 한 줄에 기록 하나인 NDJSON(application/x-ndjson) 스트림을 받는다
+     */
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StudyRecordBatchResultDto> createRecords(@RequestBody List<StudyRecordDto> dtos) {
+        return ResponseEntity.ok(studyRecordImportService.importRecords(dtos));
+    }
+    
+    @PostMapping(value = "/batch", consumes = NDJSON_VALUE)
+    public ResponseEntity<StudyRecordBatchResultDto> createRecordsFromNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(studyRecordImportService.importNdjson(body));
+    }
+    
+    /**
+     * 하루치 기록 일괄 편집 (생성/수정/삭제 + 메모를 한 트랜잭션으로 적용)
+     */
+    @PostMapping("/changes")
+    public ResponseEntity<StudyRecordChangesResultDto> applyChanges(@Valid @RequestBody StudyRecordChangesDto request) {
+        return ResponseEntity.ok(studyRecordService.applyChanges(request));
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<StudyRecordDto> updateRecord(@PathVariable Long id, @Valid @RequestBody StudyRecordDto dto) {
         StudyRecordDto updated = studyRecordService.updateRecord(id, dto);
@@ -0,0 +1,45 @@
+package com.studytracker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 집계 응답 압축 표현 DTO
+ * 시간대별 합계는 timeSlots 순서(TimeSlot ordinal)의 int 배열로, 스터디는 응답 전체에서 한 번만 담는 사전의 ID로 참조한다.
+ * 월별/일별/기간 집계 목록을 같은 형태로 담으며, 해당 집계에 없는 항목은 직렬화하지 않는다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompactSummaryDto {
+    
+    private List<String> timeSlots; // totals 배열의 시간대 순서
+    private Map<Long, String> studies; // 스터디 사전 (ID -> 이름, 기간 집계에는 없음)
+    private List<Bucket> buckets;
+    
+    /**
+     * 집계 구간 하나 (월별: month, 일별: date, 기간: startDate/endDate)
+     * 일별 집계의 요일(dayOfWeek)은 date로 계산할 수 있으므로 담지 않는다
+     */
+    @Data
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Bucket {
+        
+        private Integer month;
+        private LocalDate date;
+        private LocalDate startDate;
+        private LocalDate endDate; // 포함
+        private int[] totals; // 시간대별 합계
+        private int total; // 구간 총합계
+        private long[] studyIds; // 스터디 사전의 ID
+        private String memo;
+    }
+}
@@ -0,0 +1,20 @@
+package com.studytracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DailyMemo 저장 결과 DTO (upsert 후 행을 다시 읽지 않으므로 id는 없음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyMemoSaveResultDto {
+    
+    private LocalDate date;
+    
+    private String memo;
+}
@@ -1,5 +1,6 @@
 package com.studytracker.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -21,5 +22,7 @@ public class DailySummaryDto {
     private int totalDuration; // 일별 총합계
     private java.util.List<String> studyNames; // 해당 일자에 수행한 스터디 목록
     private String memo; // 메모
+    @JsonIgnore
+    private java.util.List<Long> studyIds; // studyNames와 같은 순서의 스터디 ID (압축 표현용)
 }
 
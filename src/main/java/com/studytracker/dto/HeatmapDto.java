@@ -0,0 +1,20 @@
+package com.studytracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 연간 히트맵 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HeatmapDto {
+    
+    private int year;
+    private LocalDate startDate; // totals[0]의 날짜 (1월 1일)
+    private int[] totals; // 일자별 총합계 (startDate부터 하루 간격, 365/366개)
+}
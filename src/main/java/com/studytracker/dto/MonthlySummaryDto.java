@@ -1,5 +1,6 @@
 package com.studytracker.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,5 +19,7 @@ public class MonthlySummaryDto {
     private Map<String, Integer> timeSlotTotals; // 시간대별 합계
     private int totalDuration; // 월별 총합계
     private java.util.List<String> studyNames; // 해당 월에 수행한 스터디 목록
+    @JsonIgnore
+    private java.util.List<Long> studyIds; // studyNames와 같은 순서의 스터디 ID (압축 표현용)
 }
 
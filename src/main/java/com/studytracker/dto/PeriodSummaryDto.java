@@ -0,0 +1,22 @@
+package com.studytracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 기간 집계 DTO (일/주/월/연 단위 구간 하나)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PeriodSummaryDto {
+    
+    private LocalDate startDate; // 구간 시작일 (조회 시작일로 잘림)
+    private LocalDate endDate; // 구간 종료일 (포함, 조회 종료일로 잘림)
+    private Map<String, Integer> timeSlotTotals; // 시간대별 합계
+    private int totalDuration; // 구간 총합계
+}
@@ -0,0 +1,20 @@
+package com.studytracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 연속 학습일 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreakDto {
+    
+    private int currentStreak; // 오늘(오늘 기록이 없으면 어제)까지 이어진 연속 학습일 수
+    private int longestStreak; // 전체 기간 최장 연속 학습일 수
+    private LocalDate lastStudyDate; // 마지막 학습일 (기록이 없으면 null)
+}
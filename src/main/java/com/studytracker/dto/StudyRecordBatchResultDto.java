@@ -0,0 +1,36 @@
+package com.studytracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * StudyRecord 일괄 등록 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyRecordBatchResultDto {
+    
+    private int received; // 요청에 포함된 행 수
+    
+    private int imported; // 저장된 행 수
+    
+    private List<RowError> errors = new ArrayList<>();
+    
+    /**
+     * 저장하지 못한 행 (index는 0부터 시작하는 요청 내 행 번호)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        
+        private int index;
+        
+        private String message;
+    }
+}
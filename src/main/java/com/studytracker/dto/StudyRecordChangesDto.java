@@ -0,0 +1,57 @@
+package com.studytracker.dto;
+
+import com.studytracker.entity.StudyRecord;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 하루치 기록 일괄 편집 요청 DTO
+ * changes는 순서대로 하나의 트랜잭션에서 적용된다
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyRecordChangesDto {
+    
+    @NotNull(message = "날짜는 필수입니다")
+    private LocalDate date;
+    
+    @Valid
+    private List<Change> changes = new ArrayList<>();
+    
+    private String memo; // null이면 메모를 변경하지 않음
+    
+    public enum Op {
+        CREATE, UPDATE, DELETE
+    }
+    
+    /**
+     * 기록 하나에 대한 변경
+     * CREATE: studyId, timeSlot, duration 필수 / UPDATE: id 필수, 나머지는 변경할 값만 / DELETE: id 필수
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Change {
+        
+        @NotNull(message = "변경 종류는 필수입니다")
+        private Op op;
+        
+        private Long id;
+        
+        private Long studyId;
+        
+        private StudyRecord.TimeSlot timeSlot;
+        
+        @Min(value = 1, message = "수행 시간은 1분 이상이어야 합니다")
+        private Integer duration;
+    }
+}
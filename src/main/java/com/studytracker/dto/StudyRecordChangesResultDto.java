@@ -0,0 +1,20 @@
+package com.studytracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 하루치 기록 일괄 편집 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyRecordChangesResultDto {
+    
+    private List<StudyRecordDto> records; // 변경 후 해당 일자의 전체 기록
+    
+    private DailySummaryDto summary; // 변경 후 해당 일자 집계
+}
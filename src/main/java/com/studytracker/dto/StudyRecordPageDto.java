@@ -0,0 +1,21 @@
+package com.studytracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * StudyRecord 페이지 DTO
+ * (date, id) 키셋 페이지네이션 결과
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudyRecordPageDto {
+    
+    private List<StudyRecordDto> records;
+    
+    private String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
+}
@@ -0,0 +1,22 @@
+package com.studytracker.dto;
+
+import com.studytracker.entity.StudyRecord;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 집계 변경분 DTO (/api/challenge/stream 의 delta 이벤트)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummaryDeltaDto {
+    
+    private LocalDate date;
+    private StudyRecord.TimeSlot timeSlot; // 메모 변경이면 null
+    private int deltaMinutes; // 해당 일자/시간대 합계의 증감
+    private boolean memoChanged;
+}
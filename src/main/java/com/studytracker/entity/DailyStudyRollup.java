@@ -0,0 +1,63 @@
+package com.studytracker.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Table;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DailyStudyRollup Entity
+ * 일자/시간대별 스터디 기록 집계를 저장하는 읽기 모델
+ * study_records 변경 시 같은 트랜잭션에서 증분 갱신됨
+ */
+@Entity
+@javax.persistence.Table(name = "daily_study_rollup",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_date_time_slot", columnNames = {"date", "time_slot"})
+    }
+)
+@Table(appliesTo = "daily_study_rollup", comment = "일자/시간대별 스터디 집계 테이블")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyStudyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(name = "time_slot", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private StudyRecord.TimeSlot timeSlot;
+
+    @Column(name = "total_duration", nullable = false)
+    private Integer totalDuration; // 분 단위
+
+    @Column(name = "record_count", nullable = false)
+    private Integer recordCount;
+
+    /**
+     * 스터디 ID별 기록 수
+     * 기록 삭제 시 해당 스터디의 마지막 기록인지 판단하기 위해 개수를 함께 보관
+     */
+    @ElementCollection
+    @CollectionTable(name = "daily_study_rollup_studies", joinColumns = @JoinColumn(name = "rollup_id"))
+    @MapKeyColumn(name = "study_id")
+    @Column(name = "record_count", nullable = false)
+    private Map<Long, Integer> studyRecordCounts = new HashMap<>();
+
+    public DailyStudyRollup(LocalDate date, StudyRecord.TimeSlot timeSlot) {
+        this.date = date;
+        this.timeSlot = timeSlot;
+        this.totalDuration = 0;
+        this.recordCount = 0;
+    }
+}
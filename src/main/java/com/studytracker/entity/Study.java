@@ -3,6 +3,8 @@ package com.studytracker.entity;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Table;
 
 import javax.persistence.*;
@@ -11,8 +13,11 @@ import java.time.LocalDateTime;
 /**
  * Study Entity
  * 스터디 정보를 저장하는 엔티티
+ * 행 수가 적고 거의 바뀌지 않으므로 2차 캐시에 올려 findById와 기록의 지연 로딩(getStudy)이 DB를 거치지 않게 한다
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @javax.persistence.Table(name = "studies")
 @Table(appliesTo = "studies", comment = "스터디 정보 테이블")
 @Data
@@ -3,6 +3,8 @@ package com.studytracker.entity;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import org.hibernate.annotations.Table;
 
 import javax.persistence.*;
@@ -14,15 +16,37 @@ import java.time.LocalDateTime;
  * 스터디 수행 기록을 저장하는 엔티티
  */
 @Entity
-@javax.persistence.Table(name = "study_records")
+@javax.persistence.Table(name = "study_records",
+    indexes = {
+        @Index(name = "idx_study_id", columnList = "study_id"),
+        @Index(name = "idx_date", columnList = "date"),
+        @Index(name = "idx_study_date", columnList = "study_id, date"),
+        @Index(name = "idx_time_slot", columnList = "time_slot")
+    }
+)
 @Table(appliesTo = "study_records", comment = "스터디 기록 테이블")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class StudyRecord {
 
+    public static final String ID_SEQUENCE = "study_records_seq";
+
+    /**
+     * IDENTITY는 INSERT마다 생성 키를 받아와야 해서 JDBC 배치가 불가능하므로
+     * pooled-lo 시퀀스로 ID를 50개씩 미리 할당한다 (MySQL에서는 study_records_seq 테이블로 동작)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "study_record_id_generator")
+    @GenericGenerator(
+        name = "study_record_id_generator",
+        strategy = "org.hibernate.id.enhanced.SequenceStyleGenerator",
+        parameters = {
+            @Parameter(name = "sequence_name", value = StudyRecord.ID_SEQUENCE),
+            @Parameter(name = "increment_size", value = "50"),
+            @Parameter(name = "optimizer", value = "pooled-lo")
+        }
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,64 @@
+package com.studytracker.event;
+
+import com.studytracker.entity.StudyRecord;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * 기록/메모/스터디 변경 이벤트
+ * 변경이 커밋된 뒤 집계 캐시 무효화, 변경분 스트림(SSE) 전송 등에 사용된다
+ * 기록 변경은 (일자, 시간대)마다 하나씩 발행되며 해당 시간대 합계의 증감을 함께 싣는다
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class StudyDataChangedEvent {
+
+    /**
+     * 변경된 날짜 (집계 재계산처럼 전체가 바뀐 경우 null)
+     */
+    private final LocalDate date;
+
+    /**
+     * 메모만 변경되었는지 여부
+     */
+    private final boolean memoChanged;
+
+    /**
+     * 스터디 정보가 변경되었는지 여부 (집계에 포함된 스터디명이 바뀔 수 있으므로 전체 변경으로 취급)
+     */
+    private final boolean studyChanged;
+
+    /**
+     * 변경된 시간대 (기록 변경이 아니면 null)
+     */
+    private final StudyRecord.TimeSlot timeSlot;
+
+    /**
+     * 해당 일자/시간대 합계의 증감 (분)
+     */
+    private final int deltaMinutes;
+
+    public static StudyDataChangedEvent recordChanged(LocalDate date, StudyRecord.TimeSlot timeSlot, int deltaMinutes) {
+        return new StudyDataChangedEvent(date, false, false, timeSlot, deltaMinutes);
+    }
+
+    public static StudyDataChangedEvent memoChanged(LocalDate date) {
+        return new StudyDataChangedEvent(date, true, false, null, 0);
+    }
+
+    public static StudyDataChangedEvent studyChanged() {
+        return new StudyDataChangedEvent(null, false, true, null, 0);
+    }
+
+    public static StudyDataChangedEvent allChanged() {
+        return new StudyDataChangedEvent(null, false, false, null, 0);
+    }
+
+    public boolean isAllChanged() {
+        return date == null;
+    }
+}
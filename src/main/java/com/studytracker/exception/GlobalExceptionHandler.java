@@ -1,5 +1,7 @@
 package com.studytracker.exception;
 
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -9,10 +11,26 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
     
+    static final String RETRY_AFTER_SECONDS = "5";
+    
+    /**
+     * 집계 실행기가 포화 상태이거나 제한 시간을 넘긴 경우 (잠시 후 재시도 안내)
+     */
+    @ExceptionHandler({TaskRejectedException.class, TimeoutException.class})
+    public ResponseEntity<Map<String, String>> handleServiceBusy(Exception e) {
+        Map<String, String> error = new HashMap<>();
+        error.put("message", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        error.put("status", "error");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(error);
+    }
+    
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, String>> handleRuntimeException(RuntimeException e) {
         Map<String, String> error = new HashMap<>();
@@ -2,14 +2,34 @@ package com.studytracker.repository;
 
 import com.studytracker.entity.DailyMemo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_NATIVE_SPACES;
+
 @Repository
 public interface DailyMemoRepository extends JpaRepository<DailyMemo, Long> {
     
     Optional<DailyMemo> findByDate(LocalDate date);
+    
+    List<DailyMemo> findByDateBetweenOrderByDateAsc(LocalDate startDate, LocalDate endDate);
+    
+    /*
+     * 날짜 유일 제약에 기대는 단일 문장 upsert (테스트용 H2도 MySQL 호환 모드라 같은 문장을 사용)
+     * 영향받는 테이블을 지정하지 않으면 Hibernate가 네이티브 변경 쿼리마다 2차 캐시 전체를 비운다
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "daily_memos"))
+    @Query(value = "INSERT INTO daily_memos (date, memo, created_at, updated_at) VALUES (:date, :memo, :now, :now) " +
+                   "ON DUPLICATE KEY UPDATE memo = VALUES(memo), updated_at = VALUES(updated_at)", nativeQuery = true)
+    int upsert(@Param("date") LocalDate date, @Param("memo") String memo, @Param("now") LocalDateTime now);
 }
-
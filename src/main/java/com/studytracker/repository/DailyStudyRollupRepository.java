@@ -0,0 +1,117 @@
+package com.studytracker.repository;
+
+import com.studytracker.entity.DailyStudyRollup;
+import com.studytracker.entity.StudyRecord;
+import com.studytracker.repository.projection.DailyStudyName;
+import com.studytracker.repository.projection.DailyTimeSlotTotal;
+import com.studytracker.repository.projection.DailyTimeSlotTotalRow;
+import com.studytracker.repository.projection.MonthlyStudyName;
+import com.studytracker.repository.projection.MonthlyTimeSlotTotal;
+import com.studytracker.repository.projection.YearMonthTimeSlotTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.QueryHints.HINT_NATIVE_SPACES;
+import static org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH;
+
+@Repository
+public interface DailyStudyRollupRepository extends JpaRepository<DailyStudyRollup, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<DailyStudyRollup> findByDateAndTimeSlot(LocalDate date, StudyRecord.TimeSlot timeSlot);
+
+    /*
+     * 일괄 등록용: 여러 날짜의 집계 행을 스터디별 기록 수와 함께 한 번에 잠그고 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("SELECT DISTINCT r FROM DailyStudyRollup r LEFT JOIN FETCH r.studyRecordCounts WHERE r.date IN :dates")
+    List<DailyStudyRollup> findAllByDateIn(@Param("dates") Collection<LocalDate> dates);
+
+    /*
+     * 일자/시간대의 빈 집계 행을 만든다 (이미 있으면 바꾸지 않음)
+     * 없는 행은 잠글 수 없으므로, 같은 일자/시간대의 첫 기록이 동시에 저장되어도 유일 제약 위반 없이 한 행을 잠그고 병합하게 한다
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "daily_study_rollup"))
+    @Query(value = "INSERT INTO daily_study_rollup (date, time_slot, total_duration, record_count) " +
+                   "VALUES (:date, :timeSlot, 0, 0) ON DUPLICATE KEY UPDATE record_count = record_count", nativeQuery = true)
+    int insertIfAbsent(@Param("date") LocalDate date, @Param("timeSlot") String timeSlot);
+
+    boolean existsByDate(LocalDate date);
+
+    @Query("SELECT DISTINCT r.date FROM DailyStudyRollup r ORDER BY r.date")
+    List<LocalDate> findAllDates();
+
+    @Query("SELECT r.date AS date, r.timeSlot AS timeSlot, r.totalDuration AS totalDuration " +
+           "FROM DailyStudyRollup r WHERE r.date >= :startDate AND r.date < :endDate")
+    List<DailyTimeSlotTotal> sumByDateAndTimeSlot(@Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT MONTH(r.date) AS month, r.timeSlot AS timeSlot, SUM(r.totalDuration) AS totalDuration " +
+           "FROM DailyStudyRollup r WHERE r.date >= :startDate AND r.date < :endDate " +
+           "GROUP BY MONTH(r.date), r.timeSlot")
+    List<MonthlyTimeSlotTotal> sumByMonthAndTimeSlot(@Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate);
+
+    /*
+     * 기간 집계용: sumByDateAndTimeSlot과 같은 행을 생성자 표현식으로 조회 (수년 치 행을 가볍게 읽기 위함)
+     */
+    @Query("SELECT new com.studytracker.repository.projection.DailyTimeSlotTotalRow(r.date, r.timeSlot, r.totalDuration) " +
+           "FROM DailyStudyRollup r WHERE r.date >= :startDate AND r.date < :endDate")
+    List<DailyTimeSlotTotalRow> findTimeSlotTotalRows(@Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT YEAR(r.date) AS year, MONTH(r.date) AS month, r.timeSlot AS timeSlot, " +
+           "SUM(r.totalDuration) AS totalDuration " +
+           "FROM DailyStudyRollup r WHERE r.date >= :startDate AND r.date < :endDate " +
+           "GROUP BY YEAR(r.date), MONTH(r.date), r.timeSlot")
+    List<YearMonthTimeSlotTotal> sumByYearMonthAndTimeSlot(@Param("startDate") LocalDate startDate,
+                                                           @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT DISTINCT r.date AS date, s.id AS studyId, s.name AS studyName " +
+           "FROM DailyStudyRollup r JOIN r.studyRecordCounts c, Study s " +
+           "WHERE s.id = KEY(c) AND r.date >= :startDate AND r.date < :endDate")
+    List<DailyStudyName> findStudyNamesByDate(@Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT DISTINCT MONTH(r.date) AS month, s.id AS studyId, s.name AS studyName " +
+           "FROM DailyStudyRollup r JOIN r.studyRecordCounts c, Study s " +
+           "WHERE s.id = KEY(c) AND r.date >= :startDate AND r.date < :endDate")
+    List<MonthlyStudyName> findStudyNamesByMonth(@Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM daily_study_rollup_studies", nativeQuery = true)
+    int deleteAllStudyCounts();
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM daily_study_rollup", nativeQuery = true)
+    int deleteAllRollups();
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO daily_study_rollup (date, time_slot, total_duration, record_count) " +
+                   "SELECT sr.date, sr.time_slot, SUM(sr.duration), COUNT(*) " +
+                   "FROM study_records sr GROUP BY sr.date, sr.time_slot", nativeQuery = true)
+    int insertRollupsFromRecords();
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO daily_study_rollup_studies (rollup_id, study_id, record_count) " +
+                   "SELECT r.id, sr.study_id, COUNT(*) " +
+                   "FROM study_records sr " +
+                   "JOIN daily_study_rollup r ON r.date = sr.date AND r.time_slot = sr.time_slot " +
+                   "GROUP BY r.id, sr.study_id", nativeQuery = true)
+    int insertStudyCountsFromRecords();
+}
@@ -1,27 +1,120 @@
 package com.studytracker.repository;
 
+import com.studytracker.dto.StudyRecordDto;
 import com.studytracker.entity.StudyRecord;
+import com.studytracker.repository.projection.DailyTimeSlotTotal;
+import com.studytracker.repository.projection.DailyTimeSlotTotalRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
 public interface StudyRecordRepository extends JpaRepository<StudyRecord, Long> {
     
-    List<StudyRecord> findByDate(LocalDate date);
+    int EXPORT_FETCH_SIZE = 1000;
+    
+    /**
+     * 조회 API용 DTO 생성자 표현식
+     * Study를 한 번의 조인으로 읽고 엔티티를 만들지 않으므로 영속성 컨텍스트 등록, 스냅샷, 지연 로딩이 없다
+     */
+    String DTO_SELECT = "SELECT new com.studytracker.dto.StudyRecordDto(" +
+            "sr.id, s.id, s.name, s.category, sr.date, sr.timeSlot, sr.duration) " +
+            "FROM StudyRecord sr JOIN sr.study s ";
+    
+    @Query(DTO_SELECT + "WHERE sr.id = :id")
+    Optional<StudyRecordDto> findDtoById(@Param("id") Long id);
     
-    List<StudyRecord> findByDateBetween(LocalDate startDate, LocalDate endDate);
+    @Query(DTO_SELECT + "WHERE sr.date = :date ORDER BY sr.id")
+    List<StudyRecordDto> findByDate(@Param("date") LocalDate date);
     
     List<StudyRecord> findByStudyId(Long studyId);
     
-    @Query("SELECT sr FROM StudyRecord sr WHERE YEAR(sr.date) = :year")
-    List<StudyRecord> findByYear(@Param("year") int year);
+    @Modifying
+    @Query("DELETE FROM StudyRecord sr WHERE sr.study.id = :studyId")
+    int deleteByStudyId(@Param("studyId") Long studyId);
+    
+    /*
+     * 내보내기용 스트리밍 조회
+     * 결과를 한 번에 메모리에 올리지 않도록 fetch size 단위로 커서를 읽는다
+     * (MySQL은 접속 URL의 useCursorFetch=true가 있어야 fetch size가 적용됨)
+     * 호출 측은 트랜잭션 안에서 스트림을 닫고, 처리한 엔티티는 detach해야 한다
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT sr FROM StudyRecord sr JOIN FETCH sr.study ORDER BY sr.date, sr.id")
+    Stream<StudyRecord> streamAll();
+    
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+        @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("SELECT sr FROM StudyRecord sr JOIN FETCH sr.study " +
+           "WHERE sr.date >= :startDate AND sr.date < :endDate " +
+           "ORDER BY sr.date, sr.id")
+    Stream<StudyRecord> streamByDateRange(@Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
+    
+    /*
+     * (date, id) 키셋 페이지 조회
+     * OFFSET 없이 마지막으로 받은 (date, id) 이후부터 읽으므로 페이지 깊이와 무관하게 비용이 일정하다
+     */
+    @Query(DTO_SELECT + "ORDER BY sr.date, sr.id")
+    List<StudyRecordDto> findFirstPage(Pageable pageable);
     
-    @Query("SELECT sr FROM StudyRecord sr WHERE YEAR(sr.date) = :year AND MONTH(sr.date) = :month")
-    List<StudyRecord> findByYearAndMonth(@Param("year") int year, @Param("month") int month);
+    @Query(DTO_SELECT +
+           "WHERE sr.date > :afterDate OR (sr.date = :afterDate AND sr.id > :afterId) " +
+           "ORDER BY sr.date, sr.id")
+    List<StudyRecordDto> findPageAfter(@Param("afterDate") LocalDate afterDate, @Param("afterId") Long afterId,
+                                    Pageable pageable);
+    
+    /*
+     * [startDate, endDate) 기간의 첫 페이지
+     * 컬럼에 함수를 씌우지 않은 반개구간 조건이라 idx_date 범위 스캔을 사용한다
+     */
+    @Query(DTO_SELECT +
+           "WHERE sr.date >= :startDate AND sr.date < :endDate " +
+           "ORDER BY sr.date, sr.id")
+    List<StudyRecordDto> findFirstPageByDateRange(@Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate, Pageable pageable);
+    
+    @Query(DTO_SELECT +
+           "WHERE sr.date >= :startDate AND sr.date < :endDate " +
+           "AND (sr.date > :afterDate OR (sr.date = :afterDate AND sr.id > :afterId)) " +
+           "ORDER BY sr.date, sr.id")
+    List<StudyRecordDto> findPageAfterByDateRange(@Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate,
+                                               @Param("afterDate") LocalDate afterDate,
+                                               @Param("afterId") Long afterId, Pageable pageable);
+    
+    @Query("SELECT sr.date AS date, sr.timeSlot AS timeSlot, SUM(sr.duration) AS totalDuration " +
+           "FROM StudyRecord sr WHERE sr.date >= :startDate AND sr.date < :endDate " +
+           "GROUP BY sr.date, sr.timeSlot")
+    List<DailyTimeSlotTotal> sumByDateAndTimeSlot(@Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+    
+    /*
+     * 스터디 하나의 일자/시간대별 합계 (집계 테이블에는 스터디별 수행 시간이 없으므로 idx_study_date로 직접 합산)
+     */
+    @Query("SELECT new com.studytracker.repository.projection.DailyTimeSlotTotalRow(" +
+           "sr.date, sr.timeSlot, SUM(sr.duration)) " +
+           "FROM StudyRecord sr WHERE sr.study.id = :studyId AND sr.date >= :startDate AND sr.date < :endDate " +
+           "GROUP BY sr.date, sr.timeSlot")
+    List<DailyTimeSlotTotalRow> sumByDateAndTimeSlotForStudy(@Param("studyId") Long studyId,
+                                                             @Param("startDate") LocalDate startDate,
+                                                             @Param("endDate") LocalDate endDate);
 }
-
@@ -2,9 +2,21 @@ package com.studytracker.repository;
 
 import com.studytracker.entity.Study;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+
 @Repository
 public interface StudyRepository extends JpaRepository<Study, Long> {
+    
+    /**
+     * 스터디 목록은 쿼리 캐시에 저장 (studies 테이블이 변경되면 Hibernate가 결과를 자동으로 무효화)
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<Study> findAll();
 }
-
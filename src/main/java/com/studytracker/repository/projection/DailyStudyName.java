@@ -0,0 +1,15 @@
+package com.studytracker.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * 일자별 수행 스터디 프로젝션
+ */
+public interface DailyStudyName {
+
+    LocalDate getDate();
+
+    Long getStudyId();
+
+    String getStudyName();
+}
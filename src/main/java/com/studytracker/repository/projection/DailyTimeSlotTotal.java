@@ -0,0 +1,17 @@
+package com.studytracker.repository.projection;
+
+import com.studytracker.entity.StudyRecord;
+
+import java.time.LocalDate;
+
+/**
+ * 일자/시간대별 수행 시간 합계 프로젝션
+ */
+public interface DailyTimeSlotTotal {
+
+    LocalDate getDate();
+
+    StudyRecord.TimeSlot getTimeSlot();
+
+    Long getTotalDuration();
+}
@@ -0,0 +1,25 @@
+package com.studytracker.repository.projection;
+
+import com.studytracker.entity.StudyRecord;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 일자/시간대별 수행 시간 합계 (JPQL 생성자 표현식용)
+ * 여러 해에 걸친 조회처럼 행이 많을 때 행마다 프록시를 만드는 인터페이스 프로젝션 대신 사용한다
+ */
+@Getter
+public class DailyTimeSlotTotalRow {
+
+    private final LocalDate date;
+    private final StudyRecord.TimeSlot timeSlot;
+    private final int totalDuration;
+
+    // 집계 테이블 값(Integer)과 SUM 결과(Long)를 모두 받도록 Number로 선언
+    public DailyTimeSlotTotalRow(LocalDate date, StudyRecord.TimeSlot timeSlot, Number totalDuration) {
+        this.date = date;
+        this.timeSlot = timeSlot;
+        this.totalDuration = totalDuration.intValue();
+    }
+}
@@ -0,0 +1,13 @@
+package com.studytracker.repository.projection;
+
+/**
+ * 월별 수행 스터디 프로젝션
+ */
+public interface MonthlyStudyName {
+
+    Integer getMonth();
+
+    Long getStudyId();
+
+    String getStudyName();
+}
@@ -0,0 +1,15 @@
+package com.studytracker.repository.projection;
+
+import com.studytracker.entity.StudyRecord;
+
+/**
+ * 월/시간대별 수행 시간 합계 프로젝션
+ */
+public interface MonthlyTimeSlotTotal {
+
+    Integer getMonth();
+
+    StudyRecord.TimeSlot getTimeSlot();
+
+    Long getTotalDuration();
+}
@@ -0,0 +1,17 @@
+package com.studytracker.repository.projection;
+
+import com.studytracker.entity.StudyRecord;
+
+/**
+ * 연/월/시간대별 수행 시간 합계 프로젝션 (여러 해에 걸친 기간 집계용)
+ */
+public interface YearMonthTimeSlotTotal {
+
+    Integer getYear();
+
+    Integer getMonth();
+
+    StudyRecord.TimeSlot getTimeSlot();
+
+    Long getTotalDuration();
+}
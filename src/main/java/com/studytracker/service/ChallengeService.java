@@ -1,12 +1,24 @@
 package com.studytracker.service;
 
+import com.studytracker.config.CacheConfig;
+import com.studytracker.config.MetricsConfig;
 import com.studytracker.dto.DailySummaryDto;
+import com.studytracker.dto.HeatmapDto;
 import com.studytracker.dto.MonthlySummaryDto;
-import com.studytracker.dto.StudyRecordDto;
-import com.studytracker.entity.StudyRecord;
+import com.studytracker.dto.PeriodSummaryDto;
+import com.studytracker.entity.DailyMemo;
 import com.studytracker.repository.DailyMemoRepository;
+import com.studytracker.repository.DailyStudyRollupRepository;
 import com.studytracker.repository.StudyRecordRepository;
+import com.studytracker.repository.projection.DailyStudyName;
+import com.studytracker.repository.projection.DailyTimeSlotTotal;
+import com.studytracker.repository.projection.DailyTimeSlotTotalRow;
+import com.studytracker.repository.projection.MonthlyStudyName;
+import com.studytracker.repository.projection.MonthlyTimeSlotTotal;
+import com.studytracker.repository.projection.YearMonthTimeSlotTotal;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,108 +26,233 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.TextStyle;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = MetricsConfig.CHALLENGE_SERVICE_TIMER, histogram = true)
 public class ChallengeService {
     
-    private final StudyRecordRepository studyRecordRepository;
+    private final DailyStudyRollupRepository rollupRepository;
     private final DailyMemoRepository dailyMemoRepository;
+    private final StudyRecordRepository studyRecordRepository;
     
-    private static final String[] TIME_SLOTS = {"출근길", "아침", "점심", "퇴근길", "퇴근후", "기타"};
+    /**
+     * 기간 집계 단위
+     */
+    public enum Granularity {
+        DAY, WEEK, MONTH, YEAR;
+        
+        public static Granularity from(String value) {
+            for (Granularity granularity : values()) {
+                if (granularity.name().equalsIgnoreCase(value)) {
+                    return granularity;
+                }
+            }
+            throw new RuntimeException("지원하지 않는 집계 단위입니다: " + value);
+        }
+        
+        /**
+         * date가 속한 구간의 시작일 (주는 ISO 기준 월요일 시작)
+         */
+        LocalDate bucketStart(LocalDate date) {
+            switch (this) {
+                case WEEK:
+                    return date.with(DayOfWeek.MONDAY);
+                case MONTH:
+                    return date.withDayOfMonth(1);
+                case YEAR:
+                    return date.withDayOfYear(1);
+                default:
+                    return date;
+            }
+        }
+        
+        LocalDate nextBucketStart(LocalDate bucketStart) {
+            switch (this) {
+                case WEEK:
+                    return bucketStart.plusWeeks(1);
+                case MONTH:
+                    return bucketStart.plusMonths(1);
+                case YEAR:
+                    return bucketStart.plusYears(1);
+                default:
+                    return bucketStart.plusDays(1);
+            }
+        }
+    }
     
+    @Cacheable(cacheNames = CacheConfig.MONTHLY_SUMMARY_CACHE, key = "@dataVersionService.monthlyCacheKey(#year)")
     public List<MonthlySummaryDto> getMonthlySummary(int year) {
-        List<StudyRecord> records = studyRecordRepository.findByYear(year);
-        List<MonthlySummaryDto> monthlySummaries = new ArrayList<>();
+        TimeSlotAggregator aggregator = TimeSlotAggregator.forYear(year);
+        LocalDate startDate = aggregator.getStartDate();
+        LocalDate endDate = startDate.plusDays(aggregator.getDays());
+        
+        // 월/시간대 단위 합계는 DB에서 GROUP BY로 계산해 월 시작일 버킷에 누적
+        for (MonthlyTimeSlotTotal total : rollupRepository.sumByMonthAndTimeSlot(startDate, endDate)) {
+            aggregator.add(LocalDate.of(year, total.getMonth(), 1), total.getTimeSlot(),
+                    total.getTotalDuration().intValue());
+        }
+        Map<Long, String> studyNames = new HashMap<>();
+        for (MonthlyStudyName study : rollupRepository.findStudyNamesByMonth(startDate, endDate)) {
+            aggregator.addStudy(LocalDate.of(year, study.getMonth(), 1), study.getStudyId());
+            studyNames.put(study.getStudyId(), study.getStudyName());
+        }
         
+        List<MonthlySummaryDto> monthlySummaries = new ArrayList<>(12);
+        int[] totals = new int[TimeSlotAggregator.SLOT_COUNT];
+        LocalDate monthStart = startDate;
         for (int month = 1; month <= 12; month++) {
-            MonthlySummaryDto summary = calculateMonthlySummary(records, year, month);
-            monthlySummaries.add(summary);
+            LocalDate nextMonthStart = monthStart.plusMonths(1);
+            int fromDay = aggregator.dayIndex(monthStart);
+            int toDay = aggregator.dayIndex(nextMonthStart);
+            int totalDuration = aggregator.slotTotals(fromDay, toDay, totals);
+            List<Long> studyIds = aggregator.studyIds(fromDay, toDay);
+            
+            monthlySummaries.add(new MonthlySummaryDto(
+                    month,
+                    TimeSlotAggregator.toTimeSlotMap(totals),
+                    totalDuration,
+                    toStudyNames(studyIds, studyNames),
+                    studyIds
+            ));
+            monthStart = nextMonthStart;
         }
         
         return monthlySummaries;
     }
     
+    @Cacheable(cacheNames = CacheConfig.DAILY_SUMMARY_CACHE, key = "@dataVersionService.dailyCacheKey(#year, #month)")
     public List<DailySummaryDto> getDailySummary(int year, int month) {
-        List<StudyRecord> records = studyRecordRepository.findByYearAndMonth(year, month);
         LocalDate startDate = LocalDate.of(year, month, 1);
-        LocalDate endDate = startDate.withDayOfMonth(startDate.lengthOfMonth());
-        
-        List<DailySummaryDto> dailySummaries = new ArrayList<>();
-        
-        LocalDate currentDate = startDate;
-        while (!currentDate.isAfter(endDate)) {
-            DailySummaryDto summary = calculateDailySummary(records, currentDate);
-            dailySummaries.add(summary);
-            currentDate = currentDate.plusDays(1);
+        return buildDailySummaries(startDate, startDate.plusMonths(1));
+    }
+    
+    /**
+     * 연간 히트맵 - 일자별 총합계 배열 (메모는 포함하지 않으므로 월별 집계와 같은 시점에 무효화)
+     */
+    @Cacheable(cacheNames = CacheConfig.HEATMAP_CACHE, key = "@dataVersionService.monthlyCacheKey(#year)")
+    public HeatmapDto getHeatmap(int year) {
+        LocalDate startDate = LocalDate.of(year, 1, 1);
+        int[] totals = new int[startDate.lengthOfYear()];
+        for (DailyTimeSlotTotalRow total : rollupRepository.findTimeSlotTotalRows(startDate, startDate.plusYears(1))) {
+            totals[total.getDate().getDayOfYear() - 1] += total.getTotalDuration();
         }
-        
-        return dailySummaries;
+        return new HeatmapDto(year, startDate, totals);
+    }
+    
+    /**
+     * 하루 집계 (캐시하지 않음)
+     * 기록을 변경한 트랜잭션 안에서 호출하면 변경이 반영된 값을 돌려준다
+     */
+    public DailySummaryDto getDaySummary(LocalDate date) {
+        return buildDailySummaries(date, date.plusDays(1)).get(0);
     }
     
-    private MonthlySummaryDto calculateMonthlySummary(List<StudyRecord> allRecords, int year, int month) {
-        List<StudyRecord> monthRecords = allRecords.stream()
-                .filter(r -> r.getDate().getYear() == year && r.getDate().getMonthValue() == month)
-                .collect(Collectors.toList());
+    /**
+     * 임의 기간의 일/주/월/연 단위 시간대별 합계
+     * 기간 전체를 한 번의 쿼리로 (일자 x 시간대) 누적기에 모은 뒤 구간별로 잘라 합산하므로,
+     * 구간 수와 관계없이 쿼리는 하나다. 일/주 단위는 수년 치 행을 생성자 표현식으로 가볍게 읽고,
+     * 월/연 단위는 DB에서 월까지 묶어 가져와 행 수 자체를 줄인다.
+     *
+     * @param from    시작일 (포함)
+     * @param to      종료일 (포함)
+     * @param studyId 지정하면 해당 스터디의 기록만 합산
+     */
+    @Cacheable(cacheNames = CacheConfig.PERIOD_SUMMARY_CACHE, key = "{@dataVersionService.periodCacheKey(#from, #to), #granularity, #studyId}")
+    public List<PeriodSummaryDto> getPeriodSummary(LocalDate from, LocalDate to, Granularity granularity,
+                                                   Long studyId) {
+        LocalDate endDate = to.plusDays(1);
+        TimeSlotAggregator aggregator = new TimeSlotAggregator(from, endDate);
         
-        Map<String, Integer> timeSlotTotals = new HashMap<>();
-        for (String slot : TIME_SLOTS) {
-            timeSlotTotals.put(slot, 0);
+        if (studyId != null) {
+            // 집계 테이블에는 스터디별 수행 시간이 없으므로 해당 스터디의 기록만 직접 합산
+            for (DailyTimeSlotTotalRow total : studyRecordRepository.sumByDateAndTimeSlotForStudy(studyId, from, endDate)) {
+                aggregator.add(total.getDate(), total.getTimeSlot(), total.getTotalDuration());
+            }
+        } else if (granularity == Granularity.MONTH || granularity == Granularity.YEAR) {
+            // 월 합계는 월 시작일(조회 시작일보다 앞서면 조회 시작일) 버킷에 누적
+            for (YearMonthTimeSlotTotal total : rollupRepository.sumByYearMonthAndTimeSlot(from, endDate)) {
+                LocalDate monthStart = LocalDate.of(total.getYear(), total.getMonth(), 1);
+                aggregator.add(monthStart.isBefore(from) ? from : monthStart, total.getTimeSlot(),
+                        total.getTotalDuration().intValue());
+            }
+        } else {
+            for (DailyTimeSlotTotalRow total : rollupRepository.findTimeSlotTotalRows(from, endDate)) {
+                aggregator.add(total.getDate(), total.getTimeSlot(), total.getTotalDuration());
+            }
         }
         
-        int totalDuration = 0;
-        Set<String> studyNames = new HashSet<>();
-        
-        for (StudyRecord record : monthRecords) {
-            String timeSlot = record.getTimeSlot().name();
-            timeSlotTotals.put(timeSlot, timeSlotTotals.getOrDefault(timeSlot, 0) + record.getDuration());
-            totalDuration += record.getDuration();
-            studyNames.add(record.getStudy().getName());
+        List<PeriodSummaryDto> summaries = new ArrayList<>();
+        int[] totals = new int[TimeSlotAggregator.SLOT_COUNT];
+        LocalDate bucketStart = from;
+        while (bucketStart.isBefore(endDate)) {
+            LocalDate nextBucketStart = granularity.nextBucketStart(granularity.bucketStart(bucketStart));
+            if (nextBucketStart.isAfter(endDate)) {
+                nextBucketStart = endDate;
+            }
+            int totalDuration = aggregator.slotTotals(
+                    aggregator.dayIndex(bucketStart), aggregator.dayIndex(nextBucketStart), totals);
+            
+            summaries.add(new PeriodSummaryDto(
+                    bucketStart,
+                    nextBucketStart.minusDays(1),
+                    TimeSlotAggregator.toTimeSlotMap(totals),
+                    totalDuration
+            ));
+            bucketStart = nextBucketStart;
         }
         
-        return new MonthlySummaryDto(
-                month,
-                timeSlotTotals,
-                totalDuration,
-                new ArrayList<>(studyNames)
-        );
+        return summaries;
     }
     
-    private DailySummaryDto calculateDailySummary(List<StudyRecord> allRecords, LocalDate date) {
-        List<StudyRecord> dayRecords = allRecords.stream()
-                .filter(r -> r.getDate().equals(date))
-                .collect(Collectors.toList());
+    private List<DailySummaryDto> buildDailySummaries(LocalDate startDate, LocalDate endDate) {
+        TimeSlotAggregator aggregator = new TimeSlotAggregator(startDate, endDate);
         
-        Map<String, Integer> timeSlotTotals = new HashMap<>();
-        for (String slot : TIME_SLOTS) {
-            timeSlotTotals.put(slot, 0);
+        for (DailyTimeSlotTotal total : rollupRepository.sumByDateAndTimeSlot(startDate, endDate)) {
+            aggregator.add(total.getDate(), total.getTimeSlot(), total.getTotalDuration().intValue());
         }
-        
-        int totalDuration = 0;
-        Set<String> studyNames = new HashSet<>();
-        
-        for (StudyRecord record : dayRecords) {
-            String timeSlot = record.getTimeSlot().name();
-            timeSlotTotals.put(timeSlot, timeSlotTotals.getOrDefault(timeSlot, 0) + record.getDuration());
-            totalDuration += record.getDuration();
-            studyNames.add(record.getStudy().getName());
+        Map<Long, String> studyNames = new HashMap<>();
+        for (DailyStudyName study : rollupRepository.findStudyNamesByDate(startDate, endDate)) {
+            aggregator.addStudy(study.getDate(), study.getStudyId());
+            studyNames.put(study.getStudyId(), study.getStudyName());
         }
+        Map<LocalDate, String> memos = findMemos(startDate, endDate.minusDays(1));
         
-        String dayOfWeek = date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN);
-        String memo = dailyMemoRepository.findByDate(date)
-                .map(m -> m.getMemo())
-                .orElse(null);
+        List<DailySummaryDto> dailySummaries = new ArrayList<>(aggregator.getDays());
+        int[] totals = new int[TimeSlotAggregator.SLOT_COUNT];
+        for (int day = 0; day < aggregator.getDays(); day++) {
+            LocalDate date = startDate.plusDays(day);
+            int totalDuration = aggregator.slotTotals(day, day + 1, totals);
+            List<Long> studyIds = aggregator.studyIds(day, day + 1);
+            
+            dailySummaries.add(new DailySummaryDto(
+                    date,
+                    date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN),
+                    TimeSlotAggregator.toTimeSlotMap(totals),
+                    totalDuration,
+                    toStudyNames(studyIds, studyNames),
+                    memos.get(date),
+                    studyIds
+            ));
+        }
         
-        return new DailySummaryDto(
-                date,
-                dayOfWeek,
-                timeSlotTotals,
-                totalDuration,
-                new ArrayList<>(studyNames),
-                memo
-        );
+        return dailySummaries;
+    }
+    
+    private List<String> toStudyNames(List<Long> studyIds, Map<Long, String> studyNameById) {
+        List<String> names = new ArrayList<>(studyIds.size());
+        for (Long studyId : studyIds) {
+            names.add(studyNameById.get(studyId));
+        }
+        return names;
+    }
+    
+    private Map<LocalDate, String> findMemos(LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, String> memos = new HashMap<>();
+        for (DailyMemo dailyMemo : dailyMemoRepository.findByDateBetweenOrderByDateAsc(startDate, endDate)) {
+            memos.put(dailyMemo.getDate(), dailyMemo.getMemo());
+        }
+        return memos;
     }
 }
-
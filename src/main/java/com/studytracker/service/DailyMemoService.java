@@ -1,14 +1,20 @@
 package com.studytracker.service;
 
 import com.studytracker.dto.DailyMemoDto;
+import com.studytracker.dto.DailyMemoSaveResultDto;
 import com.studytracker.entity.DailyMemo;
+import com.studytracker.event.StudyDataChangedEvent;
 import com.studytracker.repository.DailyMemoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -16,28 +22,32 @@ import java.util.Optional;
 public class DailyMemoService {
     
     private final DailyMemoRepository dailyMemoRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     public Optional<DailyMemoDto> getMemoByDate(LocalDate date) {
         return dailyMemoRepository.findByDate(date)
                 .map(this::toDto);
     }
     
+    /**
+     * 기간 메모 목록 (종료일 포함, 메모가 있는 날짜만 날짜순)
+     */
+    public List<DailyMemoDto> getMemos(LocalDate startDate, LocalDate endDate) {
+        return dailyMemoRepository.findByDateBetweenOrderByDateAsc(startDate, endDate).stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 메모 저장 - 조회 없이 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 저장한다
+     * 같은 날짜를 동시에 저장해도 유일 제약 위반 없이 나중에 실행된 값이 남는다.
+     * 저장된 행을 다시 읽지 않으므로 결과에 id는 없다.
+     */
     @Transactional
-    public DailyMemoDto saveMemo(LocalDate date, String memo) {
-        Optional<DailyMemo> existing = dailyMemoRepository.findByDate(date);
-        
-        DailyMemo dailyMemo;
-        if (existing.isPresent()) {
-            dailyMemo = existing.get();
-            dailyMemo.setMemo(memo);
-        } else {
-            dailyMemo = new DailyMemo();
-            dailyMemo.setDate(date);
-            dailyMemo.setMemo(memo);
-        }
-        
-        DailyMemo saved = dailyMemoRepository.save(dailyMemo);
-        return toDto(saved);
+    public DailyMemoSaveResultDto saveMemo(LocalDate date, String memo) {
+        dailyMemoRepository.upsert(date, memo, LocalDateTime.now());
+        eventPublisher.publishEvent(StudyDataChangedEvent.memoChanged(date));
+        return new DailyMemoSaveResultDto(date, memo);
     }
     
     private DailyMemoDto toDto(DailyMemo dailyMemo) {
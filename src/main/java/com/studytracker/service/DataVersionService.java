@@ -0,0 +1,132 @@
+package com.studytracker.service;
+
+import com.studytracker.event.StudyDataChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 데이터 버전 관리
+ * 연/월 단위 버전을 메모리에 두고 변경이 커밋될 때마다 올려서 조건부 GET(ETag/Last-Modified)에 사용한다.
+ * 버전 확인은 맵 조회뿐이므로 304 응답에는 집계 쿼리가 실행되지 않는다.
+ * 집계 캐시 키에도 같은 버전을 넣어 캐시된 본문이 항상 해당 ETag 시점 이후의 데이터가 되게 한다.
+ */
+@Component
+@Order(DataVersionService.ORDER)
+public class DataVersionService {
+
+    static final int ORDER = SummaryCacheEvictor.ORDER + 1;
+
+    private static final String STUDIES_KEY = "studies";
+
+    // 재시작 후 이전 프로세스가 발급한 ETag와 겹치지 않도록 시작 시각을 포함
+    private final String instanceId = Long.toString(System.currentTimeMillis(), 36);
+    private final long startedAt = System.currentTimeMillis();
+    private final ConcurrentMap<String, Stamp> stamps = new ConcurrentHashMap<>();
+    private volatile Stamp global = new Stamp(0, startedAt);
+
+    /**
+     * 월별 집계(연 단위) 버전 - 기록 변경 시 증가 (메모는 월별 집계에 포함되지 않음)
+     */
+    public DataVersion monthlyVersion(int year) {
+        return versionOf(String.valueOf(year));
+    }
+
+    /**
+     * 일별 집계(월 단위) 버전 - 기록/메모 변경 시 증가
+     */
+    public DataVersion dailyVersion(int year, int month) {
+        return versionOf(SummaryCacheEvictor.dailyKey(year, month));
+    }
+
+    /**
+     * 기간 집계 버전 - 기간에 걸친 연도들의 월별 집계 버전을 합친 값 (연도 수만큼의 맵 조회)
+     */
+    public DataVersion periodVersion(LocalDate from, LocalDate to) {
+        Stamp globalStamp = global;
+        long version = 0;
+        long modifiedAt = Math.max(globalStamp.getModifiedAt(), startedAt);
+        for (int year = from.getYear(); year <= to.getYear(); year++) {
+            Stamp stamp = stamps.get(String.valueOf(year));
+            if (stamp != null) {
+                version += stamp.getVersion();
+                modifiedAt = Math.max(modifiedAt, stamp.getModifiedAt());
+            }
+        }
+        String eTag = "\"" + instanceId + "-" + globalStamp.getVersion() + "-" + version + "\"";
+        return new DataVersion(eTag, modifiedAt);
+    }
+
+    /*
+     * 집계 캐시 키 - 키에 현재 버전을 넣어 두면 커밋 전에 시작된 조회가 무효화 이후에 옛 결과를 캐시에 넣어도
+     * 그 값은 이전 버전 키에만 남으므로 새 ETag로는 조회되지 않는다
+     */
+    public String monthlyCacheKey(int year) {
+        return year + "@" + monthlyVersion(year).getETag();
+    }
+
+    public String dailyCacheKey(int year, int month) {
+        return SummaryCacheEvictor.dailyKey(year, month) + "@" + dailyVersion(year, month).getETag();
+    }
+
+    public String periodCacheKey(LocalDate from, LocalDate to) {
+        return from + "~" + to + "@" + periodVersion(from, to).getETag();
+    }
+
+    /**
+     * 스터디 목록 버전 - 스터디 변경은 전체 변경으로 취급되므로 전역 버전만 따른다
+     */
+    public DataVersion studiesVersion() {
+        return versionOf(STUDIES_KEY);
+    }
+
+    @TransactionalEventListener
+    public void onStudyDataChanged(StudyDataChangedEvent event) {
+        if (event.isAllChanged()) {
+            global = new Stamp(global.getVersion() + 1, System.currentTimeMillis());
+            return;
+        }
+
+        int year = event.getDate().getYear();
+        int month = event.getDate().getMonthValue();
+        if (!event.isMemoChanged()) {
+            bump(String.valueOf(year));
+        }
+        bump(SummaryCacheEvictor.dailyKey(year, month));
+    }
+
+    private void bump(String key) {
+        long now = System.currentTimeMillis();
+        stamps.merge(key, new Stamp(1, now), (old, ignored) -> new Stamp(old.getVersion() + 1, now));
+    }
+
+    private DataVersion versionOf(String key) {
+        Stamp globalStamp = global;
+        Stamp stamp = stamps.getOrDefault(key, new Stamp(0, startedAt));
+        String eTag = "\"" + instanceId + "-" + globalStamp.getVersion() + "-" + stamp.getVersion() + "\"";
+        return new DataVersion(eTag, Math.max(globalStamp.getModifiedAt(), stamp.getModifiedAt()));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Stamp {
+        private final long version;
+        private final long modifiedAt;
+    }
+
+    /**
+     * 조건부 GET 검증자
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class DataVersion {
+        private final String eTag;
+        private final long lastModified; // epoch millis
+    }
+}
@@ -0,0 +1,131 @@
+package com.studytracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.studytracker.dto.StudyRecordDto;
+import com.studytracker.entity.StudyRecord;
+import com.studytracker.repository.StudyRecordRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 스터디 기록 내보내기
+ * 기록을 커서로 한 행씩 읽어 바로 응답 스트림에 쓰므로 전체 기록 수와 관계없이 메모리 사용량이 일정하다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StudyRecordExportService {
+    
+    private static final String CSV_HEADER = "id,studyId,studyName,studyCategory,date,timeSlot,duration";
+    
+    private final StudyRecordRepository studyRecordRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    
+    @Getter
+    public enum ExportFormat {
+        NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+        CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+        
+        private final String extension;
+        private final MediaType mediaType;
+        
+        ExportFormat(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+        
+        public static ExportFormat from(String value) {
+            for (ExportFormat format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new RuntimeException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+    
+    /**
+     * 기록 내보내기
+     *
+     * @param startDate 시작일 (포함, null이면 전체 기간)
+     * @param endDate   종료일 (미포함)
+     */
+    public long exportRecords(LocalDate startDate, LocalDate endDate, ExportFormat format,
+                              OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ObjectWriter jsonWriter = objectMapper.writerFor(StudyRecordDto.class);
+        long count = 0;
+        
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        
+        try (Stream<StudyRecord> records = startDate == null
+                ? studyRecordRepository.streamAll()
+                : studyRecordRepository.streamByDateRange(startDate, endDate)) {
+            Iterator<StudyRecord> iterator = records.iterator();
+            while (iterator.hasNext()) {
+                StudyRecord record = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, record);
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(StudyRecordService.toDto(record)));
+                    writer.write('\n');
+                }
+                // 영속성 컨텍스트에 읽은 기록이 쌓이지 않도록 바로 분리
+                entityManager.detach(record);
+                count++;
+            }
+        }
+        
+        writer.flush();
+        log.info("스터디 기록 내보내기 완료: format={}, rows={}", format, count);
+        return count;
+    }
+    
+    private void writeCsvRow(Writer writer, StudyRecord record) throws IOException {
+        writer.write(String.valueOf(record.getId()));
+        writer.write(',');
+        writer.write(String.valueOf(record.getStudy().getId()));
+        writer.write(',');
+        writer.write(escapeCsv(record.getStudy().getName()));
+        writer.write(',');
+        writer.write(escapeCsv(record.getStudy().getCategory()));
+        writer.write(',');
+        writer.write(record.getDate().toString());
+        writer.write(',');
+        writer.write(record.getTimeSlot().name());
+        writer.write(',');
+        writer.write(String.valueOf(record.getDuration()));
+        writer.write('\n');
+    }
+    
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
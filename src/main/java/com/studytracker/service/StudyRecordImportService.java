@@ -0,0 +1,114 @@
+package com.studytracker.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.studytracker.dto.StudyRecordBatchResultDto;
+import com.studytracker.dto.StudyRecordDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 스터디 기록 일괄 등록
+ * 요청을 CHUNK_SIZE 단위로 나눠 청크마다 하나의 트랜잭션(JDBC 배치 INSERT)으로 저장한다.
+ * 한 청크의 저장이 실패해도 앞서 커밋된 청크는 유지되며, 실패한 행은 결과의 errors로 보고된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudyRecordImportService {
+    
+    static final int CHUNK_SIZE = 500;
+    
+    private final StudyRecordService studyRecordService;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * JSON 배열로 받은 기록 일괄 등록
+     */
+    public StudyRecordBatchResultDto importRecords(List<StudyRecordDto> dtos) {
+        StudyRecordBatchResultDto result = new StudyRecordBatchResultDto();
+        result.setReceived(dtos.size());
+        for (int from = 0; from < dtos.size(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, dtos.size());
+            List<Integer> indexes = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                indexes.add(i);
+            }
+            importChunk(new ArrayList<>(dtos.subList(from, to)), indexes, result);
+        }
+        log.info("스터디 기록 일괄 등록: received={}, imported={}, errors={}",
+                result.getReceived(), result.getImported(), result.getErrors().size());
+        return result;
+    }
+    
+    /**
+     * NDJSON(한 줄에 기록 하나) 스트림 일괄 등록
+     * 요청 본문을 모두 읽어 두지 않고 CHUNK_SIZE 행씩 읽으면서 저장한다. 빈 줄은 건너뛴다.
+     */
+    public StudyRecordBatchResultDto importNdjson(InputStream inputStream) throws IOException {
+        StudyRecordBatchResultDto result = new StudyRecordBatchResultDto();
+        ObjectReader reader = objectMapper.readerFor(StudyRecordDto.class);
+        BufferedReader lines = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        
+        List<StudyRecordDto> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<Integer> indexes = new ArrayList<>(CHUNK_SIZE);
+        int index = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                chunk.add(reader.readValue(line));
+                indexes.add(index);
+            } catch (JsonProcessingException e) {
+                result.getErrors().add(new StudyRecordBatchResultDto.RowError(index, "JSON 형식이 올바르지 않습니다"));
+            }
+            index++;
+            
+            if (chunk.size() == CHUNK_SIZE) {
+                importChunk(chunk, indexes, result);
+                chunk = new ArrayList<>(CHUNK_SIZE);
+                indexes = new ArrayList<>(CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, indexes, result);
+        }
+        result.setReceived(index);
+        result.getErrors().sort(Comparator.comparingInt(StudyRecordBatchResultDto.RowError::getIndex));
+        log.info("스터디 기록 NDJSON 일괄 등록: received={}, imported={}, errors={}",
+                result.getReceived(), result.getImported(), result.getErrors().size());
+        return result;
+    }
+    
+    /**
+     * @param indexes chunk 각 행의 요청 내 행 번호
+     */
+    private void importChunk(List<StudyRecordDto> chunk, List<Integer> indexes, StudyRecordBatchResultDto result) {
+        try {
+            List<StudyRecordBatchResultDto.RowError> errors = studyRecordService.createRecords(chunk);
+            for (StudyRecordBatchResultDto.RowError error : errors) {
+                error.setIndex(indexes.get(error.getIndex()));
+            }
+            result.getErrors().addAll(errors);
+            result.setImported(result.getImported() + chunk.size() - errors.size());
+        } catch (RuntimeException e) {
+            log.warn("스터디 기록 청크 저장 실패: index={}~{}", indexes.get(0), indexes.get(indexes.size() - 1), e);
+            for (Integer index : indexes) {
+                result.getErrors().add(new StudyRecordBatchResultDto.RowError(index, "저장 중 오류가 발생했습니다"));
+            }
+        }
+    }
+}
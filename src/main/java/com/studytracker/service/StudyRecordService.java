@@ -1,16 +1,33 @@
 package com.studytracker.service;
 
+import com.studytracker.dto.StudyRecordBatchResultDto;
+import com.studytracker.dto.StudyRecordChangesDto;
+import com.studytracker.dto.StudyRecordChangesResultDto;
 import com.studytracker.dto.StudyRecordDto;
+import com.studytracker.dto.StudyRecordPageDto;
 import com.studytracker.entity.Study;
 import com.studytracker.entity.StudyRecord;
 import com.studytracker.repository.StudyRecordRepository;
 import com.studytracker.repository.StudyRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -18,43 +35,61 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class StudyRecordService {
     
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+    private static final String CURSOR_SEPARATOR = ":";
+    
     private final StudyRecordRepository studyRecordRepository;
     private final StudyRepository studyRepository;
+    private final StudyRollupService studyRollupService;
+    private final DailyMemoService dailyMemoService;
+    private final ChallengeService challengeService;
+    private final EntityManager entityManager;
+    private final Validator validator;
     
-    public List<StudyRecordDto> getAllRecords() {
-        return studyRecordRepository.findAll().stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+    /**
+     * (date, id) 키셋 페이지 조회
+     *
+     * @param startDate 시작일 (포함, null이면 전체 기간)
+     * @param endDate   종료일 (미포함)
+     * @param cursor    이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param limit     페이지 크기
+     */
+    public StudyRecordPageDto getRecordPage(LocalDate startDate, LocalDate endDate, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new RuntimeException("limit은 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + limit);
+        }
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        
+        List<StudyRecordDto> records;
+        if (cursor == null) {
+            records = startDate == null
+                    ? studyRecordRepository.findFirstPage(pageable)
+                    : studyRecordRepository.findFirstPageByDateRange(startDate, endDate, pageable);
+        } else {
+            StudyRecordDto after = decodeCursor(cursor);
+            records = startDate == null
+                    ? studyRecordRepository.findPageAfter(after.getDate(), after.getId(), pageable)
+                    : studyRecordRepository.findPageAfterByDateRange(
+                            startDate, endDate, after.getDate(), after.getId(), pageable);
+        }
+        
+        String nextCursor = null;
+        if (records.size() > limit) {
+            records = records.subList(0, limit);
+            nextCursor = encodeCursor(records.get(limit - 1));
+        }
+        return new StudyRecordPageDto(records, nextCursor);
     }
     
     public List<StudyRecordDto> getRecordsByDate(LocalDate date) {
-        return studyRecordRepository.findByDate(date).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-    }
-    
-    public List<StudyRecordDto> getRecordsByDateRange(LocalDate startDate, LocalDate endDate) {
-        return studyRecordRepository.findByDateBetween(startDate, endDate).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-    }
-    
-    public List<StudyRecordDto> getRecordsByYear(int year) {
-        return studyRecordRepository.findByYear(year).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
-    }
-    
-    public List<StudyRecordDto> getRecordsByYearAndMonth(int year, int month) {
-        return studyRecordRepository.findByYearAndMonth(year, month).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return studyRecordRepository.findByDate(date);
     }
     
     public StudyRecordDto getRecordById(Long id) {
-        StudyRecord record = studyRecordRepository.findById(id)
+        return studyRecordRepository.findDtoById(id)
                 .orElseThrow(() -> new RuntimeException("기록을 찾을 수 없습니다: " + id));
-        return toDto(record);
     }
     
     @Transactional
@@ -69,13 +104,147 @@ public class StudyRecordService {
         record.setDuration(dto.getDuration());
         
         StudyRecord saved = studyRecordRepository.save(record);
+        studyRollupService.addRecord(saved);
         return toDto(saved);
     }
     
+    /**
+     * 기록 일괄 등록 (한 청크를 하나의 트랜잭션으로 저장)
+     * 스터디는 한 번의 IN 조회로 확인하고, 검증에 실패한 행은 건너뛰고 오류로 반환한다
+     *
+     * @return 저장하지 못한 행 목록 (index는 dtos 내 위치)
+     */
+    @Transactional
+    public List<StudyRecordBatchResultDto.RowError> createRecords(List<StudyRecordDto> dtos) {
+        Set<Long> studyIds = new HashSet<>();
+        for (StudyRecordDto dto : dtos) {
+            if (dto != null && dto.getStudyId() != null) {
+                studyIds.add(dto.getStudyId());
+            }
+        }
+        Map<Long, Study> studies = new HashMap<>();
+        studyRepository.findAllById(studyIds).forEach(study -> studies.put(study.getId(), study));
+        
+        List<StudyRecordBatchResultDto.RowError> errors = new ArrayList<>();
+        List<StudyRecord> records = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            StudyRecordDto dto = dtos.get(i);
+            String violation = validate(dto);
+            if (violation == null && !studies.containsKey(dto.getStudyId())) {
+                violation = "스터디를 찾을 수 없습니다: " + dto.getStudyId();
+            }
+            if (violation != null) {
+                errors.add(new StudyRecordBatchResultDto.RowError(i, violation));
+                continue;
+            }
+            
+            StudyRecord record = new StudyRecord();
+            record.setStudy(studies.get(dto.getStudyId()));
+            record.setDate(dto.getDate());
+            record.setTimeSlot(dto.getTimeSlot());
+            record.setDuration(dto.getDuration());
+            records.add(record);
+        }
+        
+        studyRecordRepository.saveAll(records);
+        studyRollupService.addRecords(records);
+        
+        // 요청 단위 영속성 컨텍스트(OSIV)에 청크가 쌓이지 않도록 배치 INSERT 후 비움
+        entityManager.flush();
+        entityManager.clear();
+        return errors;
+    }
+    
+    /**
+     * 하루치 기록 일괄 편집
+     * 생성/수정/삭제를 요청 순서대로 하나의 트랜잭션에서 적용하고, 집계는 모든 변경을 모아 한 번에 반영한다.
+     * 하나라도 실패하면 전체가 롤백된다.
+     *
+     * @return 변경 후 해당 일자의 기록과 집계
+     */
+    @Transactional
+    public StudyRecordChangesResultDto applyChanges(StudyRecordChangesDto request) {
+        LocalDate date = request.getDate();
+        List<StudyRecordChangesDto.Change> changes =
+                request.getChanges() != null ? request.getChanges() : new ArrayList<>();
+        
+        Set<Long> recordIds = new HashSet<>();
+        Set<Long> studyIds = new HashSet<>();
+        for (StudyRecordChangesDto.Change change : changes) {
+            if (change.getId() != null) {
+                recordIds.add(change.getId());
+            }
+            if (change.getStudyId() != null) {
+                studyIds.add(change.getStudyId());
+            }
+        }
+        Map<Long, StudyRecord> records = new HashMap<>();
+        studyRecordRepository.findAllById(recordIds).forEach(record -> records.put(record.getId(), record));
+        Map<Long, Study> studies = new HashMap<>();
+        studyRepository.findAllById(studyIds).forEach(study -> studies.put(study.getId(), study));
+        
+        // 집계 반영용 변경 전/후 값 (같은 기록이 여러 번 바뀔 수 있으므로 시점별 복사본을 보관)
+        List<StudyRecord> removed = new ArrayList<>();
+        List<StudyRecord> added = new ArrayList<>();
+        List<StudyRecord> deleted = new ArrayList<>();
+        
+        for (StudyRecordChangesDto.Change change : changes) {
+            switch (change.getOp()) {
+                case CREATE: {
+                    if (change.getStudyId() == null || change.getTimeSlot() == null || change.getDuration() == null) {
+                        throw new RuntimeException("새 기록에는 스터디 ID, 시간대, 수행 시간이 필요합니다");
+                    }
+                    StudyRecord record = new StudyRecord();
+                    record.setStudy(findStudy(studies, change.getStudyId()));
+                    record.setDate(date);
+                    record.setTimeSlot(change.getTimeSlot());
+                    record.setDuration(change.getDuration());
+                    studyRecordRepository.save(record);
+                    added.add(copyOf(record));
+                    break;
+                }
+                case UPDATE: {
+                    StudyRecord record = findRecordOfDay(records, change.getId(), date);
+                    removed.add(copyOf(record));
+                    if (change.getStudyId() != null) {
+                        record.setStudy(findStudy(studies, change.getStudyId()));
+                    }
+                    if (change.getTimeSlot() != null) {
+                        record.setTimeSlot(change.getTimeSlot());
+                    }
+                    if (change.getDuration() != null) {
+                        record.setDuration(change.getDuration());
+                    }
+                    added.add(copyOf(record));
+                    break;
+                }
+                case DELETE: {
+                    StudyRecord record = findRecordOfDay(records, change.getId(), date);
+                    removed.add(copyOf(record));
+                    records.remove(record.getId());
+                    deleted.add(record);
+                    break;
+                }
+                default:
+                    throw new RuntimeException("지원하지 않는 변경 종류입니다: " + change.getOp());
+            }
+        }
+        
+        studyRecordRepository.deleteAll(deleted);
+        studyRollupService.applyChanges(removed, added);
+        if (request.getMemo() != null) {
+            dailyMemoService.saveMemo(date, request.getMemo());
+        }
+        
+        return new StudyRecordChangesResultDto(
+                studyRecordRepository.findByDate(date), challengeService.getDaySummary(date));
+    }
+    
     @Transactional
     public StudyRecordDto updateRecord(Long id, StudyRecordDto dto) {
         StudyRecord record = studyRecordRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("기록을 찾을 수 없습니다: " + id));
+        studyRollupService.removeRecord(record);
         
         if (dto.getStudyId() != null && !dto.getStudyId().equals(record.getStudy().getId())) {
             Study study = studyRepository.findById(dto.getStudyId())
@@ -94,18 +263,85 @@ public class StudyRecordService {
         }
         
         StudyRecord updated = studyRecordRepository.save(record);
+        studyRollupService.addRecord(updated);
         return toDto(updated);
     }
     
     @Transactional
     public void deleteRecord(Long id) {
-        if (!studyRecordRepository.existsById(id)) {
+        StudyRecord record = studyRecordRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("기록을 찾을 수 없습니다: " + id));
+        studyRollupService.removeRecord(record);
+        studyRecordRepository.delete(record);
+    }
+    
+    private Study findStudy(Map<Long, Study> studies, Long studyId) {
+        Study study = studies.get(studyId);
+        if (study == null) {
+            throw new RuntimeException("스터디를 찾을 수 없습니다: " + studyId);
+        }
+        return study;
+    }
+    
+    private StudyRecord findRecordOfDay(Map<Long, StudyRecord> records, Long id, LocalDate date) {
+        if (id == null) {
+            throw new RuntimeException("수정/삭제할 기록 ID는 필수입니다");
+        }
+        StudyRecord record = records.get(id);
+        if (record == null) {
             throw new RuntimeException("기록을 찾을 수 없습니다: " + id);
         }
-        studyRecordRepository.deleteById(id);
+        if (!record.getDate().equals(date)) {
+            throw new RuntimeException("다른 날짜의 기록은 변경할 수 없습니다: " + id);
+        }
+        return record;
+    }
+    
+    private StudyRecord copyOf(StudyRecord record) {
+        StudyRecord copy = new StudyRecord();
+        copy.setStudy(record.getStudy());
+        copy.setDate(record.getDate());
+        copy.setTimeSlot(record.getTimeSlot());
+        copy.setDuration(record.getDuration());
+        return copy;
+    }
+    
+    private String validate(StudyRecordDto dto) {
+        if (dto == null) {
+            return "빈 행입니다";
+        }
+        Set<ConstraintViolation<StudyRecordDto>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+    
+    private String encodeCursor(StudyRecordDto record) {
+        String key = record.getDate() + CURSOR_SEPARATOR + record.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private StudyRecordDto decodeCursor(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = key.split(CURSOR_SEPARATOR, 2);
+            StudyRecordDto after = new StudyRecordDto();
+            after.setDate(LocalDate.parse(parts[0]));
+            after.setId(Long.parseLong(parts[1]));
+            return after;
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new RuntimeException("잘못된 커서입니다: " + cursor);
+        }
     }
     
-    private StudyRecordDto toDto(StudyRecord record) {
+    /**
+     * 엔티티 → DTO 변환 (benchmarks 모듈의 StudyRecordMappingBenchmark가 같은 패키지에서 직접 측정)
+     */
+    static StudyRecordDto toDto(StudyRecord record) {
         StudyRecordDto dto = new StudyRecordDto();
         dto.setId(record.getId());
         dto.setStudyId(record.getStudy().getId());
@@ -0,0 +1,207 @@
+package com.studytracker.service;
+
+import com.studytracker.entity.DailyStudyRollup;
+import com.studytracker.entity.StudyRecord;
+import com.studytracker.event.StudyDataChangedEvent;
+import com.studytracker.repository.DailyStudyRollupRepository;
+import com.studytracker.repository.StudyRecordRepository;
+import com.studytracker.repository.projection.DailyTimeSlotTotal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 일자/시간대별 집계(daily_study_rollup) 유지 서비스
+ * 기록 변경은 호출한 서비스의 트랜잭션 안에서 증분 반영된다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StudyRollupService {
+    
+    private final DailyStudyRollupRepository rollupRepository;
+    private final StudyRecordRepository studyRecordRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    /**
+     * [startDate, endDate) 기간에서 집계 테이블과 study_records의 GROUP BY 결과가 다른 일자/시간대 목록
+     */
+    public List<String> findMismatches(LocalDate startDate, LocalDate endDate) {
+        Map<String, Long> expected = toTotalsByKey(studyRecordRepository.sumByDateAndTimeSlot(startDate, endDate));
+        Map<String, Long> actual = toTotalsByKey(rollupRepository.sumByDateAndTimeSlot(startDate, endDate));
+        
+        Set<String> keys = new TreeSet<>(expected.keySet());
+        keys.addAll(actual.keySet());
+        List<String> mismatches = new ArrayList<>();
+        for (String key : keys) {
+            if (!Objects.equals(expected.get(key), actual.get(key))) {
+                mismatches.add(key);
+            }
+        }
+        return mismatches;
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addRecord(StudyRecord record) {
+        apply(record.getDate(), record.getTimeSlot(), record.getStudy().getId(), record.getDuration(), 1);
+    }
+    
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeRecord(StudyRecord record) {
+        apply(record.getDate(), record.getTimeSlot(), record.getStudy().getId(), -record.getDuration(), -1);
+    }
+    
+    /**
+     * 여러 기록을 한 번에 반영 (일괄 등록용)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addRecords(List<StudyRecord> records) {
+        applyChanges(Collections.emptyList(), records);
+    }
+    
+    /**
+     * 여러 기록의 삭제/추가를 한 번에 반영 (일괄 등록/일괄 편집용)
+     * 기록마다 집계 행을 조회하지 않도록 (일자, 시간대)별 증감을 먼저 모은 뒤 대상 행을 한 번에 잠그고 병합한다
+     * 아직 없는 일자/시간대는 빈 행을 먼저 만들고 다시 잠가서 동시에 첫 기록이 저장되어도 한 행에 모이게 한다
+     *
+     * @param removed 제거할 기록 (수정의 경우 변경 전 값)
+     * @param added   추가할 기록 (수정의 경우 변경 후 값)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyChanges(List<StudyRecord> removed, List<StudyRecord> added) {
+        Map<String, DailyStudyRollup> deltas = new LinkedHashMap<>();
+        removed.forEach(record -> accumulate(deltas, record, -1));
+        added.forEach(record -> accumulate(deltas, record, 1));
+        if (deltas.isEmpty()) {
+            return;
+        }
+        
+        Set<LocalDate> dates = new LinkedHashSet<>();
+        for (DailyStudyRollup delta : deltas.values()) {
+            dates.add(delta.getDate());
+            eventPublisher.publishEvent(StudyDataChangedEvent.recordChanged(
+                    delta.getDate(), delta.getTimeSlot(), delta.getTotalDuration()));
+        }
+        
+        Map<String, DailyStudyRollup> existing = lockRollups(dates);
+        Set<LocalDate> createdDates = new LinkedHashSet<>();
+        for (Map.Entry<String, DailyStudyRollup> entry : deltas.entrySet()) {
+            DailyStudyRollup delta = entry.getValue();
+            if (!existing.containsKey(entry.getKey()) && delta.getRecordCount() > 0) {
+                rollupRepository.insertIfAbsent(delta.getDate(), delta.getTimeSlot().name());
+                createdDates.add(delta.getDate());
+            }
+        }
+        if (!createdDates.isEmpty()) {
+            existing.putAll(lockRollups(createdDates));
+        }
+        
+        for (Map.Entry<String, DailyStudyRollup> entry : deltas.entrySet()) {
+            DailyStudyRollup delta = entry.getValue();
+            DailyStudyRollup rollup = existing.get(entry.getKey());
+            if (rollup == null) {
+                continue;
+            }
+            
+            rollup.setTotalDuration(rollup.getTotalDuration() + delta.getTotalDuration());
+            rollup.setRecordCount(rollup.getRecordCount() + delta.getRecordCount());
+            delta.getStudyRecordCounts().forEach(
+                    (studyId, count) -> rollup.getStudyRecordCounts().merge(studyId, count, Integer::sum));
+            rollup.getStudyRecordCounts().values().removeIf(count -> count <= 0);
+            if (rollup.getRecordCount() <= 0) {
+                rollupRepository.delete(rollup);
+            }
+        }
+    }
+    
+    /**
+     * study_records 전체로부터 집계 테이블을 다시 계산
+     *
+     * @return 생성된 집계 행 수
+     */
+    @Transactional
+    public int rebuild() {
+        rollupRepository.deleteAllStudyCounts();
+        rollupRepository.deleteAllRollups();
+        int rows = rollupRepository.insertRollupsFromRecords();
+        rollupRepository.insertStudyCountsFromRecords();
+        log.info("daily_study_rollup 재계산 완료: {}행", rows);
+        eventPublisher.publishEvent(StudyDataChangedEvent.allChanged());
+        return rows;
+    }
+    
+    /**
+     * 집계 테이블이 비어 있는데 기록이 존재하면 재계산 (최초 배포 시)
+     */
+    @Transactional
+    public boolean rebuildIfEmpty() {
+        if (rollupRepository.count() > 0 || studyRecordRepository.count() == 0) {
+            return false;
+        }
+        rebuild();
+        return true;
+    }
+    
+    private Map<String, DailyStudyRollup> lockRollups(Collection<LocalDate> dates) {
+        Map<String, DailyStudyRollup> rollups = new HashMap<>();
+        for (DailyStudyRollup rollup : rollupRepository.findAllByDateIn(dates)) {
+            rollups.put(toKey(rollup.getDate(), rollup.getTimeSlot()), rollup);
+        }
+        return rollups;
+    }
+    
+    private Map<String, Long> toTotalsByKey(List<DailyTimeSlotTotal> totals) {
+        Map<String, Long> totalsByKey = new HashMap<>();
+        for (DailyTimeSlotTotal total : totals) {
+            totalsByKey.put(toKey(total.getDate(), total.getTimeSlot()), total.getTotalDuration());
+        }
+        return totalsByKey;
+    }
+    
+    private String toKey(LocalDate date, StudyRecord.TimeSlot timeSlot) {
+        return date + " " + timeSlot.name();
+    }
+    
+    private void accumulate(Map<String, DailyStudyRollup> deltas, StudyRecord record, int sign) {
+        DailyStudyRollup delta = deltas.computeIfAbsent(toKey(record.getDate(), record.getTimeSlot()),
+                key -> new DailyStudyRollup(record.getDate(), record.getTimeSlot()));
+        delta.setTotalDuration(delta.getTotalDuration() + sign * record.getDuration());
+        delta.setRecordCount(delta.getRecordCount() + sign);
+        delta.getStudyRecordCounts().merge(record.getStudy().getId(), sign, Integer::sum);
+    }
+    
+    private void apply(LocalDate date, StudyRecord.TimeSlot timeSlot, Long studyId, int durationDelta, int countDelta) {
+        eventPublisher.publishEvent(StudyDataChangedEvent.recordChanged(date, timeSlot, durationDelta));
+        
+        if (countDelta > 0) {
+            rollupRepository.insertIfAbsent(date, timeSlot.name());
+        }
+        DailyStudyRollup rollup = rollupRepository.findByDateAndTimeSlot(date, timeSlot)
+                .orElseGet(() -> new DailyStudyRollup(date, timeSlot));
+    
+        rollup.setTotalDuration(rollup.getTotalDuration() + durationDelta);
+        rollup.setRecordCount(rollup.getRecordCount() + countDelta);
+    
+        int studyCount = rollup.getStudyRecordCounts().getOrDefault(studyId, 0) + countDelta;
+        if (studyCount > 0) {
+            rollup.getStudyRecordCounts().put(studyId, studyCount);
+        } else {
+            rollup.getStudyRecordCounts().remove(studyId);
+        }
+    
+        if (rollup.getRecordCount() <= 0) {
+            if (rollup.getId() != null) {
+                rollupRepository.delete(rollup);
+            }
+            return;
+        }
+        rollupRepository.save(rollup);
+    }
+}
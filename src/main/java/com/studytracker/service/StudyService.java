@@ -2,11 +2,16 @@ package com.studytracker.service;
 
 import com.studytracker.dto.StudyDto;
 import com.studytracker.entity.Study;
+import com.studytracker.entity.StudyRecord;
+import com.studytracker.event.StudyDataChangedEvent;
+import com.studytracker.repository.StudyRecordRepository;
 import com.studytracker.repository.StudyRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -16,6 +21,9 @@ import java.util.stream.Collectors;
 public class StudyService {
     
     private final StudyRepository studyRepository;
+    private final StudyRecordRepository studyRecordRepository;
+    private final StudyRollupService studyRollupService;
+    private final ApplicationEventPublisher eventPublisher;
     
     public List<StudyDto> getAllStudies() {
         return studyRepository.findAll().stream()
@@ -35,6 +43,7 @@ public class StudyService {
         study.setCategory(dto.getCategory());
         study.setName(dto.getName());
         Study saved = studyRepository.save(study);
+        eventPublisher.publishEvent(StudyDataChangedEvent.studyChanged());
         return toDto(saved);
     }
     
@@ -45,6 +54,7 @@ public class StudyService {
         study.setCategory(dto.getCategory());
         study.setName(dto.getName());
         Study updated = studyRepository.save(study);
+        eventPublisher.publishEvent(StudyDataChangedEvent.studyChanged());
         return toDto(updated);
     }
     
@@ -53,7 +63,12 @@ public class StudyService {
         if (!studyRepository.existsById(id)) {
             throw new RuntimeException("스터디를 찾을 수 없습니다: " + id);
         }
+        // 기록은 외래 키의 ON DELETE CASCADE로도 지워지지만 집계 테이블에서는 같은 트랜잭션에서 직접 빼야 한다
+        List<StudyRecord> records = studyRecordRepository.findByStudyId(id);
+        studyRollupService.applyChanges(records, Collections.emptyList());
+        studyRecordRepository.deleteByStudyId(id);
         studyRepository.deleteById(id);
+        eventPublisher.publishEvent(StudyDataChangedEvent.studyChanged());
     }
     
     private StudyDto toDto(Study study) {
@@ -0,0 +1,146 @@
+package com.studytracker.service;
+
+import com.studytracker.dto.StreakDto;
+import com.studytracker.event.StudyDataChangedEvent;
+import com.studytracker.repository.DailyStudyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 연속 학습일 추적기
+ * 기록이 있는 날짜를 연속 구간(시작일 -> 종료일)으로 메모리에 두고, 기록 변경이 커밋될 때마다
+ * 바뀐 날짜 하나만 구간에 붙이거나 떼어 낸다. 조회는 구간 맵 조회뿐이므로 기록 이력 길이와 무관하다.
+ * 최초 조회 시와 전체 변경(집계 재계산, 스터디 변경) 후에는 집계 테이블의 날짜 목록으로 다시 만든다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudyStreakTracker {
+
+    private final DailyStudyRollupRepository rollupRepository;
+
+    private final TreeMap<LocalDate, LocalDate> runs = new TreeMap<>(); // 구간 시작일 -> 종료일 (포함)
+    private final TreeMap<Integer, Integer> runLengths = new TreeMap<>(); // 구간 길이 -> 구간 수
+    private boolean loaded;
+
+    public synchronized StreakDto getStreak(LocalDate today) {
+        ensureLoaded();
+        int currentStreak = 0;
+        Map.Entry<LocalDate, LocalDate> run = runs.floorEntry(today);
+        if (run != null && !run.getValue().isBefore(today.minusDays(1))) {
+            LocalDate end = run.getValue().isAfter(today) ? today : run.getValue();
+            currentStreak = length(run.getKey(), end);
+        }
+        int longestStreak = runLengths.isEmpty() ? 0 : runLengths.lastKey();
+        LocalDate lastStudyDate = runs.isEmpty() ? null : runs.lastEntry().getValue();
+        return new StreakDto(currentStreak, longestStreak, lastStudyDate);
+    }
+
+    /*
+     * 커밋 직후 변경된 날짜에 집계 행이 남아 있는지 확인해 반영한다
+     * 같은 날짜를 바꾼 트랜잭션이 겹쳐도 마지막으로 실행된 확인이 최신 상태를 보도록 잠금 안에서 조회한다
+     */
+    @TransactionalEventListener
+    public synchronized void onStudyDataChanged(StudyDataChangedEvent event) {
+        if (event.isAllChanged()) {
+            loaded = false;
+            runs.clear();
+            runLengths.clear();
+            return;
+        }
+        if (event.isMemoChanged() || !loaded) {
+            return;
+        }
+
+        LocalDate date = event.getDate();
+        if (rollupRepository.existsByDate(date)) {
+            markStudied(date);
+        } else {
+            unmarkStudied(date);
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        List<LocalDate> dates = rollupRepository.findAllDates();
+        LocalDate start = null;
+        LocalDate end = null;
+        for (LocalDate date : dates) {
+            if (end != null && date.equals(end.plusDays(1))) {
+                end = date;
+                continue;
+            }
+            if (start != null) {
+                addRun(start, end);
+            }
+            start = date;
+            end = date;
+        }
+        if (start != null) {
+            addRun(start, end);
+        }
+        loaded = true;
+        log.debug("연속 학습일 구간 로드: 학습일 {}일, 구간 {}개", dates.size(), runs.size());
+    }
+
+    private void markStudied(LocalDate date) {
+        Map.Entry<LocalDate, LocalDate> previous = runs.floorEntry(date);
+        if (previous != null && !previous.getValue().isBefore(date)) {
+            return;
+        }
+
+        LocalDate start = date;
+        LocalDate end = date;
+        if (previous != null && previous.getValue().equals(date.minusDays(1))) {
+            start = previous.getKey();
+            removeRun(previous.getKey(), previous.getValue());
+        }
+        LocalDate nextEnd = runs.get(date.plusDays(1));
+        if (nextEnd != null) {
+            end = nextEnd;
+            removeRun(date.plusDays(1), nextEnd);
+        }
+        addRun(start, end);
+    }
+
+    private void unmarkStudied(LocalDate date) {
+        Map.Entry<LocalDate, LocalDate> run = runs.floorEntry(date);
+        if (run == null || run.getValue().isBefore(date)) {
+            return;
+        }
+
+        LocalDate start = run.getKey();
+        LocalDate end = run.getValue();
+        removeRun(start, end);
+        if (start.isBefore(date)) {
+            addRun(start, date.minusDays(1));
+        }
+        if (end.isAfter(date)) {
+            addRun(date.plusDays(1), end);
+        }
+    }
+
+    private void addRun(LocalDate start, LocalDate end) {
+        runs.put(start, end);
+        runLengths.merge(length(start, end), 1, Integer::sum);
+    }
+
+    private void removeRun(LocalDate start, LocalDate end) {
+        runs.remove(start);
+        runLengths.computeIfPresent(length(start, end), (length, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static int length(LocalDate start, LocalDate end) {
+        return (int) ChronoUnit.DAYS.between(start, end) + 1;
+    }
+}
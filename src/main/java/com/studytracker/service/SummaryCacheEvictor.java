@@ -0,0 +1,61 @@
+package com.studytracker.service;
+
+import com.studytracker.config.CacheConfig;
+import com.studytracker.event.StudyDataChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 챌린지 집계 캐시 무효화
+ * 캐시 키에 데이터 버전이 들어가므로(DataVersionService) 버전이 오르면 이전 값은 더 이상 조회되지 않는다.
+ * 여기서는 버전을 올리기 전에 현재 버전 키를 지워 더 쓰이지 않을 값이 TTL까지 자리를 차지하지 않게 한다.
+ * 기간 집계는 키가 임의 기간이라 기록이 바뀌면 전체를 비운다.
+ */
+@Slf4j
+@Component
+@Order(SummaryCacheEvictor.ORDER)
+@RequiredArgsConstructor
+public class SummaryCacheEvictor {
+
+    static final int ORDER = 0;
+
+    private final CacheManager cacheManager;
+    private final DataVersionService dataVersionService;
+
+    public static String dailyKey(int year, int month) {
+        return year + "-" + month;
+    }
+
+    @TransactionalEventListener
+    public void onStudyDataChanged(StudyDataChangedEvent event) {
+        Cache monthlyCache = cacheManager.getCache(CacheConfig.MONTHLY_SUMMARY_CACHE);
+        Cache dailyCache = cacheManager.getCache(CacheConfig.DAILY_SUMMARY_CACHE);
+        Cache periodCache = cacheManager.getCache(CacheConfig.PERIOD_SUMMARY_CACHE);
+        Cache heatmapCache = cacheManager.getCache(CacheConfig.HEATMAP_CACHE);
+
+        if (event.isAllChanged()) {
+            monthlyCache.clear();
+            dailyCache.clear();
+            periodCache.clear();
+            heatmapCache.clear();
+            log.debug("집계 캐시 전체 무효화");
+            return;
+        }
+
+        int year = event.getDate().getYear();
+        int month = event.getDate().getMonthValue();
+        // 월별 집계/히트맵에는 메모가 포함되지 않으므로 메모 변경 시에는 일별 키만 제거
+        if (!event.isMemoChanged()) {
+            String monthlyKey = dataVersionService.monthlyCacheKey(year);
+            monthlyCache.evict(monthlyKey);
+            heatmapCache.evict(monthlyKey);
+            periodCache.clear();
+        }
+        dailyCache.evict(dataVersionService.dailyCacheKey(year, month));
+    }
+}
@@ -0,0 +1,127 @@
+package com.studytracker.service;
+
+import com.studytracker.config.AsyncConfig;
+import com.studytracker.dto.SummaryDeltaDto;
+import com.studytracker.event.StudyDataChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 집계 변경분 스트림 (SSE)
+ * 기록/메모 변경이 커밋되면 구독 중인 모든 클라이언트에 (일자, 시간대, 증감) 이벤트를 보내
+ * 클라이언트가 월/연 집계를 다시 받지 않고 화면을 직접 고치게 한다.
+ * 전체 변경(집계 재계산, 스터디 변경)은 reset 이벤트로 알리며, 이때 클라이언트는 다시 조회한다.
+ * 새 ETag가 발급된 뒤에 알리도록 데이터 버전(DataVersionService) 다음에 실행된다.
+ */
+@Slf4j
+@Component
+@Order(SummaryEventStream.ORDER)
+public class SummaryEventStream {
+
+    static final int ORDER = DataVersionService.ORDER + 1;
+
+    static final String DELTA_EVENT = "delta";
+    static final String RESET_EVENT = "reset";
+
+    private final TaskExecutor streamExecutor;
+    private final int maxEmitters;
+    private final long emitterTimeoutMillis;
+    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+
+    public SummaryEventStream(@Qualifier(AsyncConfig.STREAM_EXECUTOR) TaskExecutor streamExecutor,
+                              @Value("${study-tracker.stream.max-emitters:100}") int maxEmitters,
+                              @Value("${study-tracker.stream.timeout:30m}") Duration emitterTimeout) {
+        this.streamExecutor = streamExecutor;
+        this.maxEmitters = maxEmitters;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+    }
+
+    /**
+     * 새 구독 등록
+     *
+     * @return 구독 수가 상한에 도달했으면 null
+     */
+    public synchronized SseEmitter subscribe() {
+        if (emitters.size() >= maxEmitters) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> emitters.remove(emitter));
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    public int getEmitterCount() {
+        return emitters.size();
+    }
+
+    /*
+     * 커밋 후 호출되므로 예외를 던지면 이미 커밋된 요청이 실패로 응답된다 - 전송 대기열이 가득 차면 버리고 기록만 남긴다
+     */
+    @TransactionalEventListener
+    public void onStudyDataChanged(StudyDataChangedEvent event) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        Supplier<SseEmitter.SseEventBuilder> message;
+        if (event.isAllChanged()) {
+            message = () -> SseEmitter.event().name(RESET_EVENT).data("{}", MediaType.APPLICATION_JSON);
+        } else {
+            SummaryDeltaDto delta = new SummaryDeltaDto(
+                    event.getDate(), event.getTimeSlot(), event.getDeltaMinutes(), event.isMemoChanged());
+            message = () -> SseEmitter.event().name(DELTA_EVENT).data(delta, MediaType.APPLICATION_JSON);
+        }
+        try {
+            streamExecutor.execute(() -> broadcast(message));
+        } catch (TaskRejectedException e) {
+            log.warn("변경분 스트림 전송 대기열이 가득 차 이벤트를 버립니다: {}", event);
+        }
+    }
+
+    /**
+     * 유휴 연결이 프록시/브라우저에서 끊기지 않도록 주석 줄을 주기적으로 보낸다
+     */
+    @Scheduled(fixedDelayString = "${study-tracker.stream.heartbeat-interval-ms:20000}")
+    public void sendHeartbeat() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        try {
+            streamExecutor.execute(() -> broadcast(() -> SseEmitter.event().comment("heartbeat")));
+        } catch (TaskRejectedException e) {
+            log.debug("변경분 스트림 전송 대기열이 가득 차 하트비트를 건너뜁니다");
+        }
+    }
+
+    /*
+     * SseEventBuilder는 build() 시 내용이 바뀌므로 연결마다 새로 만든다
+     */
+    private void broadcast(Supplier<SseEmitter.SseEventBuilder> message) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(message.get());
+            } catch (IOException | IllegalStateException e) {
+                // 끊긴 연결은 목록에서 빼고 정리
+                emitters.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
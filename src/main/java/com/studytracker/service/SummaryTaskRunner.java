@@ -0,0 +1,43 @@
+package com.studytracker.service;
+
+import com.studytracker.config.AsyncConfig;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 집계 조회 작업을 전용 실행기(summaryExecutor)에서 제한 시간과 함께 실행
+ * 대기열이 가득 차면 TaskRejectedException, 제한 시간을 넘기면 TimeoutException으로 끝나며
+ * GlobalExceptionHandler가 둘 다 503 + Retry-After로 응답한다
+ */
+@Component
+public class SummaryTaskRunner {
+    
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration timeout;
+    
+    public SummaryTaskRunner(
+            @Qualifier(AsyncConfig.SUMMARY_EXECUTOR) ThreadPoolTaskExecutor executor,
+            @Value("${study-tracker.summary-executor.timeout:10s}") Duration timeout) {
+        this.executor = executor;
+        this.timeout = timeout;
+    }
+    
+    /**
+     * 제한 시간이 지나면 응답만 먼저 끝내고, 이미 실행 중인 쿼리는 마저 끝난 뒤 결과가 버려진다
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor)
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    
+    public ThreadPoolTaskExecutor getExecutor() {
+        return executor;
+    }
+}
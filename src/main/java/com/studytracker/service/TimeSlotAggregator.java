@@ -0,0 +1,173 @@
+package com.studytracker.service;
+
+import com.studytracker.entity.StudyRecord;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시간대별 집계기
+ * 기간 내 기록을 한 번의 순회로 (일자 x 시간대) int[] 누적기에 모은 뒤
+ * 일/월 등 원하는 구간 단위로 합계를 꺼낸다.
+ * 일자는 시작일로부터의 오프셋(연 단위 집계에서는 dayOfYear - 1), 시간대는 TimeSlot.ordinal()로 색인한다.
+ */
+public class TimeSlotAggregator {
+
+    public static final StudyRecord.TimeSlot[] TIME_SLOTS = StudyRecord.TimeSlot.values();
+    public static final int SLOT_COUNT = TIME_SLOTS.length;
+
+    private final LocalDate startDate;
+    private final long startEpochDay;
+    private final int days;
+    private final int[] minutes; // [dayIndex * SLOT_COUNT + slot.ordinal()]
+    private final BitSet[] studiesByDay; // 스터디가 있는 날만 생성
+    private final Map<Long, Integer> studyIndexById = new HashMap<>();
+    private final List<Long> studyIds = new ArrayList<>();
+
+    /**
+     * @param startDate 시작일 (포함)
+     * @param endDate   종료일 (미포함)
+     */
+    public TimeSlotAggregator(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.startEpochDay = startDate.toEpochDay();
+        this.days = (int) (endDate.toEpochDay() - startEpochDay);
+        if (days <= 0) {
+            throw new IllegalArgumentException("종료일은 시작일 이후여야 합니다: " + startDate + " ~ " + endDate);
+        }
+        this.minutes = new int[days * SLOT_COUNT];
+        this.studiesByDay = new BitSet[days];
+    }
+
+    public static TimeSlotAggregator forYear(int year) {
+        LocalDate startDate = LocalDate.of(year, 1, 1);
+        return new TimeSlotAggregator(startDate, startDate.plusYears(1));
+    }
+
+    public static TimeSlotAggregator forMonth(int year, int month) {
+        LocalDate startDate = LocalDate.of(year, month, 1);
+        return new TimeSlotAggregator(startDate, startDate.plusMonths(1));
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    public int dayIndex(LocalDate date) {
+        return (int) (date.toEpochDay() - startEpochDay);
+    }
+
+    public void add(LocalDate date, StudyRecord.TimeSlot timeSlot, int duration) {
+        add(dayIndex(date), timeSlot.ordinal(), duration);
+    }
+
+    public void add(int dayIndex, int slot, int duration) {
+        if (dayIndex < 0 || dayIndex >= days) {
+            return;
+        }
+        minutes[dayIndex * SLOT_COUNT + slot] += duration;
+    }
+
+    public void addStudy(LocalDate date, long studyId) {
+        addStudy(dayIndex(date), studyId);
+    }
+
+    public void addStudy(int dayIndex, long studyId) {
+        if (dayIndex < 0 || dayIndex >= days) {
+            return;
+        }
+        BitSet studies = studiesByDay[dayIndex];
+        if (studies == null) {
+            studies = new BitSet();
+            studiesByDay[dayIndex] = studies;
+        }
+        studies.set(studyIndex(studyId));
+    }
+
+    /**
+     * [fromDay, toDay) 구간의 시간대별 합계를 out 배열에 채운다
+     *
+     * @return 구간 총합계
+     */
+    public int slotTotals(int fromDay, int toDay, int[] out) {
+        Arrays.fill(out, 0);
+        int total = 0;
+        int end = Math.min(toDay, days) * SLOT_COUNT;
+        for (int i = Math.max(fromDay, 0) * SLOT_COUNT; i < end; i++) {
+            int value = minutes[i];
+            out[i % SLOT_COUNT] += value;
+            total += value;
+        }
+        return total;
+    }
+
+    /**
+     * [fromDay, toDay) 구간에 기록이 있는 스터디 ID 목록
+     */
+    public List<Long> studyIds(int fromDay, int toDay) {
+        BitSet union = null;
+        int end = Math.min(toDay, days);
+        for (int day = Math.max(fromDay, 0); day < end; day++) {
+            BitSet studies = studiesByDay[day];
+            if (studies == null) {
+                continue;
+            }
+            if (union == null) {
+                union = (BitSet) studies.clone();
+            } else {
+                union.or(studies);
+            }
+        }
+        if (union == null) {
+            return new ArrayList<>();
+        }
+        List<Long> result = new ArrayList<>(union.cardinality());
+        for (int i = union.nextSetBit(0); i >= 0; i = union.nextSetBit(i + 1)) {
+            result.add(studyIds.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * TimeSlot 순서의 시간대별 합계 배열을 응답용 Map으로 변환
+     */
+    public static Map<String, Integer> toTimeSlotMap(int[] totals) {
+        Map<String, Integer> timeSlotTotals = new LinkedHashMap<>(SLOT_COUNT * 2);
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            timeSlotTotals.put(TIME_SLOTS[i].name(), totals[i]);
+        }
+        return timeSlotTotals;
+    }
+
+    /**
+     * toTimeSlotMap의 역변환 - 시간대 이름 맵을 TimeSlot 순서의 배열로 (없는 시간대는 0)
+     */
+    public static int[] toTotals(Map<String, Integer> timeSlotTotals) {
+        int[] totals = new int[SLOT_COUNT];
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            Integer total = timeSlotTotals.get(TIME_SLOTS[i].name());
+            totals[i] = total != null ? total : 0;
+        }
+        return totals;
+    }
+
+    private int studyIndex(long studyId) {
+        Integer index = studyIndexById.get(studyId);
+        if (index == null) {
+            index = studyIds.size();
+            studyIndexById.put(studyId, index);
+            studyIds.add(studyId);
+        }
+        return index;
+    }
+}
@@ -16,20 +16,37 @@ const state = {
     currentYear: new Date().getFullYear(),
     editingDate: null,
     challengeViewMode: 'monthly', // 'monthly' or 'daily'
-    selectedMonth: null
+    selectedMonth: null,
+    streamConnected: false // 집계 변경분 스트림(SSE) 연결 여부
 };
 
 // ==================== API Utility Functions ====================
+// GET 응답의 검증자(ETag/Last-Modified)와 본문 캐시 (endpoint -> { etag, lastModified, body })
+const responseCache = new Map();
+
 async function apiRequest(endpoint, options = {}) {
+    const method = (options.method || 'GET').toUpperCase();
+    const cached = method === 'GET' ? responseCache.get(endpoint) : null;
+    const conditionalHeaders = {};
+    if (cached) {
+        if (cached.etag) conditionalHeaders['If-None-Match'] = cached.etag;
+        if (cached.lastModified) conditionalHeaders['If-Modified-Since'] = cached.lastModified;
+    }
+    
     try {
         const response = await fetch(`${API_BASE_URL}${endpoint}`, {
+            ...options,
             headers: {
                 'Content-Type': 'application/json',
+                ...conditionalHeaders,
                 ...options.headers
-            },
-            ...options
+            }
         });
 
+        if (response.status === 304 && cached) {
+            return cached.body;
+        }
+
         if (!response.ok) {
             const errorData = await response.json().catch(() => ({ message: '요청 처리 중 오류가 발생했습니다.' }));
             throw new Error(errorData.message || `HTTP error! status: ${response.status}`);
@@ -39,7 +56,13 @@ async function apiRequest(endpoint, options = {}) {
             return null;
         }
 
-        return await response.json();
+        const body = await response.json();
+        const etag = response.headers.get('ETag');
+        const lastModified = response.headers.get('Last-Modified');
+        if (method === 'GET' && (etag || lastModified)) {
+            responseCache.set(endpoint, { etag, lastModified, body });
+        }
+        return body;
     } catch (error) {
         console.error('API request failed:', error);
         throw error;
@@ -79,6 +102,7 @@ function initializeApp() {
         setupStudyPage();
         setupChallengePage();
         setupModals();
+        connectSummaryStream();
         showPage('study');
     } catch (error) {
         console.error('Failed to initialize app:', error);
@@ -344,7 +368,8 @@ async function handleTimeFormSubmit(studyId) {
     try {
         await addStudyRecord(studyId, date, timeSlot, duration);
         modal.classList.remove('active');
-        if (state.currentPage === 'challenge') {
+        // 스트림이 연결되어 있으면 변경분 이벤트로 화면이 갱신된다
+        if (state.currentPage === 'challenge' && !state.streamConnected) {
             await renderChallengePage();
         }
     } catch (error) {
@@ -455,8 +480,8 @@ function createMonthlyRowHTML(month, totals, total, studyList) {
     return `
         <tr class="month-row clickable" data-month="${month}">
             <td class="date-cell">${MONTH_NAMES[month - 1]}</td>
-            ${TIME_SLOTS.map(slot => `<td class="time-cell">${totals[slot] > 0 ? totals[slot] + '분' : ''}</td>`).join('')}
-            <td class="total-cell">${total > 0 ? total + '분' : ''}</td>
+            ${TIME_SLOTS.map(slot => `<td class="time-cell" data-minutes="${totals[slot] || 0}">${totals[slot] > 0 ? totals[slot] + '분' : ''}</td>`).join('')}
+            <td class="total-cell" data-minutes="${total}">${total > 0 ? total + '분' : ''}</td>
             <td class="study-list-cell">${escapeHtml(studyList)}</td>
             <td class="memo-cell">-</td>
         </tr>
@@ -467,8 +492,8 @@ function createDailyRowHTML(dateKey, dateStr, totals, total, studyList, memo) {
     return `
         <tr data-date="${dateKey}">
             <td class="date-cell">${dateStr}</td>
-            ${TIME_SLOTS.map(slot => `<td class="time-cell" data-slot="${slot}">${totals[slot] > 0 ? totals[slot] + '분' : ''}</td>`).join('')}
-            <td class="total-cell clickable" data-date="${dateKey}">${total > 0 ? total + '분' : ''}</td>
+            ${TIME_SLOTS.map(slot => `<td class="time-cell" data-slot="${slot}" data-minutes="${totals[slot] || 0}">${totals[slot] > 0 ? totals[slot] + '분' : ''}</td>`).join('')}
+            <td class="total-cell clickable" data-date="${dateKey}" data-minutes="${total}">${total > 0 ? total + '분' : ''}</td>
             <td class="study-list-cell clickable" data-date="${dateKey}">${escapeHtml(studyList)}</td>
             <td class="memo-cell">
                 <div class="memo-display" data-date="${dateKey}">
@@ -579,6 +604,109 @@ async function setupMemoInput(display) {
     input.addEventListener('blur', saveMemo);
 }
 
+// ==================== Summary Stream ====================
+/**
+ * 집계 변경분 스트림 구독
+ * 다른 탭/기기를 포함한 모든 기록/메모 변경이 (일자, 시간대, 증감) 이벤트로 들어오므로
+ * 집계를 다시 받지 않고 보이는 행의 셀만 고친다 (스터디 목록은 다음 조회 시 갱신)
+ * 연결이 끊겼다가 다시 붙으면 그 사이 놓친 이벤트가 있을 수 있으므로 현재 화면을 다시 조회한다
+ */
+function connectSummaryStream() {
+    if (typeof EventSource === 'undefined') return;
+    
+    const source = new EventSource(`${API_BASE_URL}/challenge/stream`);
+    let connectedBefore = false;
+    
+    source.addEventListener('open', () => {
+        state.streamConnected = true;
+        if (connectedBefore && state.currentPage === 'challenge') {
+            renderChallengePage();
+        }
+        connectedBefore = true;
+    });
+    
+    source.addEventListener('error', () => {
+        // EventSource가 자동으로 재연결하며, 그동안은 저장 후 다시 조회하는 방식으로 동작
+        state.streamConnected = false;
+    });
+    
+    source.addEventListener('delta', (e) => {
+        try {
+            applySummaryDelta(JSON.parse(e.data));
+        } catch (error) {
+            console.error('Failed to apply summary delta:', error);
+        }
+    });
+    
+    source.addEventListener('reset', () => {
+        if (state.currentPage === 'challenge') {
+            renderChallengePage();
+        }
+    });
+}
+
+function applySummaryDelta(delta) {
+    if (state.currentPage !== 'challenge' || !delta || !delta.date) return;
+    
+    const [year, month] = delta.date.split('-').map(Number);
+    if (year !== state.currentYear) return;
+    
+    if (delta.memoChanged) {
+        if (state.challengeViewMode === 'daily') {
+            refreshMemoDisplay(delta.date);
+        }
+        return;
+    }
+    
+    const slotIndex = TIME_SLOTS.indexOf(delta.timeSlot);
+    if (slotIndex < 0 || !delta.deltaMinutes) return;
+    
+    const row = state.challengeViewMode === 'daily'
+        ? document.querySelector(`tr[data-date="${delta.date}"]`)
+        : document.querySelector(`tr.month-row[data-month="${month}"]`);
+    if (!row) return;
+    
+    patchMinutesCell(row.querySelectorAll('.time-cell')[slotIndex], delta.deltaMinutes);
+    patchMinutesCell(row.querySelector('.total-cell'), delta.deltaMinutes);
+}
+
+function patchMinutesCell(cell, deltaMinutes) {
+    if (!cell) return;
+    const minutes = Math.max(0, (parseInt(cell.getAttribute('data-minutes')) || 0) + deltaMinutes);
+    cell.setAttribute('data-minutes', minutes);
+    cell.textContent = minutes > 0 ? minutes + '분' : '';
+}
+
+// 메모 변경 이벤트는 잠시 모았다가 기간 메모 조회(/memos?from=&to=) 한 번으로 반영
+const pendingMemoDates = new Set();
+let memoRefreshTimer = null;
+
+function refreshMemoDisplay(date) {
+    pendingMemoDates.add(date);
+    if (memoRefreshTimer) return;
+    memoRefreshTimer = setTimeout(flushMemoDisplays, 100);
+}
+
+async function flushMemoDisplays() {
+    memoRefreshTimer = null;
+    const dates = [...pendingMemoDates].sort();
+    pendingMemoDates.clear();
+    if (dates.length === 0) return;
+    
+    const memos = await apiGet(`/memos?from=${dates[0]}&to=${dates[dates.length - 1]}`).catch(() => null);
+    if (!memos) return;
+    const memoByDate = new Map(memos.map(m => [m.date, m.memo]));
+    
+    dates.forEach(date => {
+        const display = document.querySelector(`.memo-display[data-date="${date}"]`);
+        // 입력 중인 메모는 덮어쓰지 않음
+        if (!display || display.style.display === 'none') return;
+        
+        const memo = memoByDate.get(date) || '';
+        display.innerHTML = memo ? escapeHtml(memo) : '<span class="memo-placeholder">메모 입력</span>';
+    });
+}
+
 // ==================== Edit Modal ====================
 async function openEditModal(date, slot) {
     if (!date) return;
@@ -639,7 +767,7 @@ async function createEditRecordItemHTML(record) {
             <div class="form-group">
                 <label>수행 시간 (분)</label>
                 <input type="number" class="edit-duration-input" value="${record.duration}" 
-                       data-record-id="${record.id}" min="1">
+                       data-record-id="${record.id}" data-original-duration="${record.duration}" min="1">
             </div>
         </div>
     `;
@@ -744,37 +872,35 @@ async function handleAddRecord(date, slot) {
 async function handleSaveEdit(date) {
     const modal = document.getElementById('edit-modal');
     
-    // Update durations
-    const updatePromises = [];
+    // Collect changed durations
+    const changes = [];
     document.querySelectorAll('.edit-duration-input').forEach(input => {
         const recordId = input.getAttribute('data-record-id');
+        const originalDuration = parseInt(input.getAttribute('data-original-duration'));
         const duration = parseInt(input.value);
-        if (recordId && duration > 0) {
-            updatePromises.push(
-                updateStudyRecordDuration(recordId, duration).catch(error => {
-                    console.error('Failed to update record duration:', error);
-                })
-            );
+        if (recordId && duration > 0 && duration !== originalDuration) {
+            changes.push({ op: 'UPDATE', id: parseInt(recordId), duration: duration });
         }
     });
     
-    await Promise.all(updatePromises);
-    
-    // Update memo
     const memoInput = document.getElementById('edit-memo');
-    if (memoInput) {
-        const memo = memoInput.value.trim();
-        try {
-            await updateMemo(date, memo);
-        } catch (error) {
-            console.error('Failed to update memo:', error);
-        }
+    const memo = memoInput ? memoInput.value.trim() : null;
+    
+    // Apply record changes and memo in a single request
+    try {
+        await saveRecordChanges(date, changes, memo);
+    } catch (error) {
+        console.error('Failed to save changes:', error);
+        alert('변경 사항 저장 중 오류가 발생했습니다: ' + error.message);
+        return;
     }
     
     if (modal) {
         modal.classList.remove('active');
     }
-    await renderChallengePage();
+    if (!state.streamConnected) {
+        await renderChallengePage();
+    }
 }
 
 // ==================== Modals ====================
@@ -910,6 +1036,23 @@ async function updateStudyRecordDuration(recordId, duration) {
     }
 }
 
+async function saveRecordChanges(date, changes, memo) {
+    if (!date) {
+        throw new Error('Date is required');
+    }
+    
+    try {
+        return await apiPost('/records/changes', {
+            date: date,
+            changes: changes || [],
+            memo: memo
+        });
+    } catch (error) {
+        console.error('Failed to save record changes:', error);
+        throw error;
+    }
+}
+
 async function deleteStudyRecord(recordId) {
     if (!recordId) {
         throw new Error('Record ID is required');
@@ -980,6 +1123,7 @@ if (typeof module !== 'undefined' && module.exports) {
         getStudyById,
         addStudyRecord,
         updateStudyRecordDuration,
+        saveRecordChanges,
         deleteStudyRecord,
         updateMemo,
         formatDateForInput,
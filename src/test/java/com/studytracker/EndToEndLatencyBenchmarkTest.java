@@ -0,0 +1,259 @@
+package com.studytracker;
+
+import com.studytracker.entity.StudyRecord;
+import com.studytracker.service.StudyRollupService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 종단 간 지연 시간 벤치마크
+ * 내장 H2(MySQL 모드)로 앱 전체를 띄우고 데이터를 채운 뒤, 동시 클라이언트로 엔드포인트별 p50/p95/p99와 처리량을 측정한다
+ * 실행: mvn test -Dtest=EndToEndLatencyBenchmarkTest -Dbenchmark=true
+ *       [-Dloadtest.years=5 -Dloadtest.studies=50 -Dloadtest.records=1000000 -Dloadtest.clients=16 -Dloadtest.requests=2000
+ *        -Dloadtest.max-errors=0]
+ * 결과는 콘솔 표와 target/load-test-report.csv로 남는다
+ * 엔드포인트별 실패 응답(404 제외)이 loadtest.max-errors(기본 0)를 넘으면 실패한다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class EndToEndLatencyBenchmarkTest {
+
+    private static final int YEARS = Integer.getInteger("loadtest.years", 5);
+    private static final int STUDY_COUNT = Integer.getInteger("loadtest.studies", 50);
+    private static final int RECORD_COUNT = Integer.getInteger("loadtest.records", 200_000);
+    private static final int CLIENTS = Integer.getInteger("loadtest.clients", 16);
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 1_000);
+    private static final int MAX_ERRORS = Integer.getInteger("loadtest.max-errors", 0);
+    private static final int WARMUP_REQUESTS = Math.max(REQUESTS / 10, 20);
+    private static final int LAST_YEAR = 2024;
+    private static final int FIRST_YEAR = LAST_YEAR - YEARS + 1;
+    private static final LocalDate START_DATE = LocalDate.of(FIRST_YEAR, 1, 1);
+    private static final int DAYS = (int) (LocalDate.of(LAST_YEAR + 1, 1, 1).toEpochDay() - START_DATE.toEpochDay());
+    private static final int SEED_BATCH_SIZE = 10_000;
+    private static final Path REPORT = Paths.get("target", "load-test-report.csv");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StudyRollupService studyRollupService;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void endpointLatencies() throws Exception {
+        long seedStart = System.nanoTime();
+        seed();
+        System.out.printf("seeded %d records (%d years x %d studies) in %d ms%n",
+                RECORD_COUNT, YEARS, STUDY_COUNT, (System.nanoTime() - seedStart) / 1_000_000);
+
+        List<Scenario> scenarios = List.of(
+                new Scenario("GET /api/records?date", random -> get("/api/records?date=" + randomDate(random))),
+                new Scenario("GET /api/records?startDate&endDate (7d)", random -> {
+                    LocalDate start = randomDate(random);
+                    return get("/api/records?startDate=" + start + "&endDate=" + start.plusDays(6));
+                }),
+                new Scenario("GET /api/records?year&limit=100", random ->
+                        get("/api/records?year=" + randomYear(random) + "&limit=100")),
+                new Scenario("GET /api/challenge/monthly/{year}", random ->
+                        get("/api/challenge/monthly/" + randomYear(random))),
+                new Scenario("GET /api/challenge/daily/{year}/{month}", random ->
+                        get("/api/challenge/daily/" + randomYear(random) + "/" + (1 + random.nextInt(12)))),
+                new Scenario("GET /api/memos/{date}", random -> get("/api/memos/" + randomDate(random))),
+                new Scenario("PUT /api/memos/{date}", random -> HttpRequest.newBuilder(uri("/api/memos/" + randomDate(random)))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString("{\"memo\":\"부하 테스트 " + random.nextInt(1000) + "\"}"))
+                        .build())
+        );
+
+        List<Result> results = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            run(scenario, WARMUP_REQUESTS);
+            results.add(run(scenario, REQUESTS));
+        }
+        report(results);
+
+        for (Result result : results) {
+            assertThat(result.errors).as(result.name + " 실패 응답").isLessThanOrEqualTo(MAX_ERRORS);
+        }
+    }
+
+    private void seed() {
+        List<Object[]> studies = new ArrayList<>(STUDY_COUNT);
+        for (int i = 0; i < STUDY_COUNT; i++) {
+            studies.add(new Object[]{"카테고리 " + (i % 5), "스터디 " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO studies (category, name, created_at) VALUES (?, ?, NOW())", studies);
+        List<Long> studyIds = jdbcTemplate.queryForList("SELECT id FROM studies ORDER BY id", Long.class);
+
+        SplittableRandom random = new SplittableRandom(42);
+        StudyRecord.TimeSlot[] timeSlots = StudyRecord.TimeSlot.values();
+        long firstId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM study_records", Long.class);
+        List<Object[]> rows = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            rows.add(new Object[]{
+                    firstId + i,
+                    studyIds.get(random.nextInt(studyIds.size())),
+                    Date.valueOf(START_DATE.plusDays(random.nextInt(DAYS))),
+                    timeSlots[random.nextInt(timeSlots.length)].name(),
+                    10 + random.nextInt(110)
+            });
+            if (rows.size() == SEED_BATCH_SIZE || i == RECORD_COUNT - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO study_records (id, study_id, date, time_slot, duration, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, NOW())", rows);
+                rows.clear();
+            }
+        }
+
+        // 사흘에 하루꼴로 메모
+        List<Object[]> memos = new ArrayList<>();
+        for (int day = 0; day < DAYS; day += 3) {
+            memos.add(new Object[]{Date.valueOf(START_DATE.plusDays(day)), "메모 " + day});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO daily_memos (date, memo, created_at) VALUES (?, ?, NOW())", memos);
+
+        studyRollupService.rebuild();
+    }
+
+    private Result run(Scenario scenario, int requests) throws InterruptedException {
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+
+        long start = System.nanoTime();
+        for (int client = 0; client < CLIENTS; client++) {
+            SplittableRandom random = new SplittableRandom(client);
+            clients.execute(() -> {
+                for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                    HttpRequest request = scenario.requests.apply(random);
+                    long requestStart = System.nanoTime();
+                    try {
+                        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                        // 메모가 없는 날짜의 404는 정상 응답
+                        if (response.statusCode() >= 400 && response.statusCode() != 404) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (IOException | InterruptedException e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - requestStart;
+                }
+            });
+        }
+        clients.shutdown();
+        assertThat(clients.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        Result result = new Result();
+        result.name = scenario.name;
+        result.requests = requests;
+        result.errors = errors.get();
+        result.p50 = percentileMillis(latencies, 0.50);
+        result.p95 = percentileMillis(latencies, 0.95);
+        result.p99 = percentileMillis(latencies, 0.99);
+        result.max = latencies[latencies.length - 1] / 1_000_000.0;
+        result.throughput = requests / (elapsed / 1_000_000_000.0);
+        return result;
+    }
+
+    private void report(List<Result> results) throws IOException {
+        System.out.printf("%nclients=%d, requests/endpoint=%d, records=%d, years=%d, studies=%d%n",
+                CLIENTS, REQUESTS, RECORD_COUNT, YEARS, STUDY_COUNT);
+        System.out.printf("%-42s %9s %9s %9s %9s %10s %7s%n", "endpoint", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "req/s", "errors");
+        for (Result result : results) {
+            System.out.printf("%-42s %9.2f %9.2f %9.2f %9.2f %10.1f %7d%n", result.name,
+                    result.p50, result.p95, result.p99, result.max, result.throughput, result.errors);
+        }
+
+        Files.createDirectories(REPORT.getParent());
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(REPORT, StandardCharsets.UTF_8))) {
+            writer.println("endpoint,clients,requests,records,years,studies,p50_ms,p95_ms,p99_ms,max_ms,throughput_rps,errors");
+            for (Result result : results) {
+                writer.printf("\"%s\",%d,%d,%d,%d,%d,%.2f,%.2f,%.2f,%.2f,%.1f,%d%n", result.name, CLIENTS,
+                        result.requests, RECORD_COUNT, YEARS, STUDY_COUNT, result.p50, result.p95, result.p99,
+                        result.max, result.throughput, result.errors);
+            }
+        }
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static LocalDate randomDate(SplittableRandom random) {
+        return START_DATE.plusDays(random.nextInt(DAYS));
+    }
+
+    private static int randomYear(SplittableRandom random) {
+        return FIRST_YEAR + random.nextInt(YEARS);
+    }
+
+    private static class Scenario {
+        private final String name;
+        private final Function<SplittableRandom, HttpRequest> requests;
+
+        private Scenario(String name, Function<SplittableRandom, HttpRequest> requests) {
+            this.name = name;
+            this.requests = requests;
+        }
+    }
+
+    private static class Result {
+        private String name;
+        private int requests;
+        private int errors;
+        private double p50;
+        private double p95;
+        private double p99;
+        private double max;
+        private double throughput;
+    }
+}
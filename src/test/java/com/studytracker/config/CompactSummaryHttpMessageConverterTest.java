@@ -0,0 +1,139 @@
+package com.studytracker.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.studytracker.dto.StudyDto;
+import com.studytracker.dto.StudyRecordDto;
+import com.studytracker.entity.StudyRecord;
+import com.studytracker.service.StudyRecordService;
+import com.studytracker.service.StudyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 집계 응답 압축 표현 테스트
+ * Accept에 따라 같은 집계가 기본 JSON, 압축 JSON, 압축 CBOR로 응답되어야 한다
+ * Accept가 없거나 와일드카드이면 기존 클라이언트가 받던 기본 JSON이어야 한다
+ * 표현마다 본문이 다르므로 ETag도 표현별로 달라, 다른 표현의 ETag로는 304가 나오지 않아야 한다
+ * 별도 컨텍스트가 다른 테스트가 쓰는 내장 DB의 스키마를 다시 만들지 않도록 전용 DB를 사용한다
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:compact_summary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class CompactSummaryHttpMessageConverterTest {
+
+    private static final LocalDate DATE = LocalDate.of(2019, 3, 2);
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private StudyRecordService studyRecordService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void dailySummaryIsNegotiatedIntoCompactJsonAndCbor() throws Exception {
+        StudyDto study = studyService.createStudy(new StudyDto(null, "압축 표현", "CBOR 스터디"));
+        studyRecordService.createRecord(
+                new StudyRecordDto(null, study.getId(), null, null, DATE, StudyRecord.TimeSlot.점심, 25));
+        String studyKey = String.valueOf(study.getId());
+
+        for (MediaType accept : new MediaType[]{null, MediaType.ALL}) {
+            mockMvc.perform(asyncDispatch(getDailySummary(accept)))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$[1].timeSlotTotals.점심").value(25));
+        }
+
+        mockMvc.perform(asyncDispatch(getDailySummary(MediaType.APPLICATION_JSON)))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andExpect(jsonPath("$[1].timeSlotTotals.점심").value(25))
+                .andExpect(jsonPath("$[1].studyNames[0]").value("CBOR 스터디"))
+                .andExpect(jsonPath("$[1].studyIds").doesNotExist());
+
+        mockMvc.perform(asyncDispatch(getDailySummary(CompactSummaryHttpMessageConverter.COMPACT_JSON)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CompactSummaryHttpMessageConverter.COMPACT_JSON))
+                .andExpect(jsonPath("$.timeSlots[2]").value("점심"))
+                .andExpect(jsonPath("$.studies['" + studyKey + "']").value("CBOR 스터디"))
+                .andExpect(jsonPath("$.buckets[1].date").value("2019-03-02"))
+                .andExpect(jsonPath("$.buckets[1].totals[2]").value(25))
+                .andExpect(jsonPath("$.buckets[1].studyIds[0]").value(study.getId()))
+                .andExpect(jsonPath("$.buckets[0].studyIds").isEmpty());
+
+        MvcResult cbor = mockMvc.perform(asyncDispatch(getDailySummary(CompactSummaryHttpMessageConverter.COMPACT_CBOR)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(CompactSummaryHttpMessageConverter.COMPACT_CBOR))
+                .andReturn();
+        JsonNode compact = new ObjectMapper(new CBORFactory()).readTree(cbor.getResponse().getContentAsByteArray());
+        assertThat(compact.path("buckets")).hasSize(31);
+        assertThat(compact.path("buckets").get(1).path("totals").get(2).asInt()).isEqualTo(25);
+        assertThat(compact.path("studies").path(studyKey).asText()).isEqualTo("CBOR 스터디");
+    }
+
+    @Test
+    void eTagDiffersPerRepresentation() throws Exception {
+        String json = dailySummaryETag(MediaType.APPLICATION_JSON);
+        String compact = dailySummaryETag(CompactSummaryHttpMessageConverter.COMPACT_JSON);
+        String cbor = dailySummaryETag(CompactSummaryHttpMessageConverter.COMPACT_CBOR);
+
+        assertThat(dailySummaryETag(null)).isEqualTo(json);
+        assertThat(compact).isEqualTo(json.substring(0, json.length() - 1) + "-compact\"");
+        assertThat(cbor).isEqualTo(json.substring(0, json.length() - 1) + "-cbor\"");
+
+        mockMvc.perform(asyncDispatch(getDailySummary(CompactSummaryHttpMessageConverter.COMPACT_CBOR, json)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, cbor));
+        mockMvc.perform(asyncDispatch(getDailySummary(CompactSummaryHttpMessageConverter.COMPACT_JSON, cbor)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, compact));
+        mockMvc.perform(asyncDispatch(getDailySummary(CompactSummaryHttpMessageConverter.COMPACT_CBOR, cbor)))
+                .andExpect(status().isNotModified());
+    }
+
+    private String dailySummaryETag(MediaType accept) throws Exception {
+        return mockMvc.perform(asyncDispatch(getDailySummary(accept)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private MvcResult getDailySummary(MediaType accept) throws Exception {
+        return getDailySummary(accept, null);
+    }
+
+    private MvcResult getDailySummary(MediaType accept, String ifNoneMatch) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/challenge/daily/2019/3");
+        if (accept != null) {
+            request.accept(accept);
+        }
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+}
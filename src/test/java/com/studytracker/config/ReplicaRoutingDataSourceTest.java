@@ -0,0 +1,141 @@
+package com.studytracker.config;
+
+import com.studytracker.dto.DailyMemoDto;
+import com.studytracker.service.DailyMemoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 전용 트랜잭션의 복제본 라우팅 테스트
+ * 주 DB와 복제본을 서로 다른 내장 H2로 띄우고, 같은 날짜에 다른 메모를 넣어 어느 쪽에서 읽었는지 구분한다
+ * stickiness 창은 테스트 시계를 직접 진행시켜 확인하므로 실행 속도와 무관하다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "study-tracker.datasource.replica.url=jdbc:h2:mem:routing_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "study-tracker.datasource.replica.stickiness=2s"
+})
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration STICKINESS = Duration.ofSeconds(2);
+
+    private static final LocalDate MEMO_DATE = LocalDate.of(2020, 2, 2);
+    private static final LocalDate WRITE_DATE = LocalDate.of(2020, 2, 3);
+
+    @Autowired
+    private DailyMemoService dailyMemoService;
+
+    @Autowired
+    private MutableClock clock;
+
+    @Autowired
+    @Qualifier(ReplicaDataSourceConfig.PRIMARY_DATA_SOURCE)
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier(ReplicaDataSourceConfig.REPLICA_DATA_SOURCE)
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+
+        // 스키마는 Hibernate가 주 DB에만 만들므로 복제본에 그대로 복사 (운영에서는 복제가 담당)
+        replica.execute("DROP ALL OBJECTS");
+        for (String statement : primary.queryForList("SCRIPT NODATA", String.class)) {
+            replica.execute(statement);
+        }
+
+        String insertMemo = "INSERT INTO daily_memos (date, memo, created_at) VALUES (?, ?, NOW())";
+        primary.update("DELETE FROM daily_memos");
+        primary.update(insertMemo, Date.valueOf(MEMO_DATE), "primary");
+        replica.update(insertMemo, Date.valueOf(MEMO_DATE), "replica");
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplicaExceptWithinStickinessWindowAfterWrite() {
+        clock.advance(STICKINESS);
+        assertThat(readMemo()).isEqualTo("replica");
+
+        dailyMemoService.saveMemo(WRITE_DATE, "쓰기");
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM daily_memos WHERE date = ?", Integer.class,
+                Date.valueOf(WRITE_DATE))).isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM daily_memos WHERE date = ?", Integer.class,
+                Date.valueOf(WRITE_DATE))).isZero();
+
+        // 쓰기 직후에는 방금 쓴 값을 읽을 수 있도록 주 DB에서 읽는다
+        assertThat(readMemo()).isEqualTo("primary");
+        clock.advance(STICKINESS.minusMillis(1));
+        assertThat(readMemo()).isEqualTo("primary");
+
+        clock.advance(Duration.ofMillis(1));
+        assertThat(readMemo()).isEqualTo("replica");
+    }
+
+    private String readMemo() {
+        return dailyMemoService.getMemoByDate(MEMO_DATE).map(DailyMemoDto::getMemo).orElse(null);
+    }
+
+    @TestConfiguration
+    static class ClockConfig {
+
+        @Bean
+        MutableClock clock() {
+            return new MutableClock();
+        }
+    }
+
+    /**
+     * advance로만 움직이는 테스트 시계
+     */
+    static class MutableClock extends Clock {
+
+        private final AtomicLong millis = new AtomicLong(Instant.parse("2020-02-03T00:00:00Z").toEpochMilli());
+
+        void advance(Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
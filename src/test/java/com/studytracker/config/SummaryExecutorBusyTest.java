@@ -0,0 +1,106 @@
+package com.studytracker.config;
+
+import com.studytracker.service.ChallengeService;
+import com.studytracker.service.SummaryTaskRunner;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 집계 실행기 포화/제한 시간 테스트
+ * 작업자 하나, 대기열 0인 실행기에서 작업자가 바쁘면 즉시 거절되어야 하고, 제한 시간을 넘긴 집계는 기다리지 않고 끝나야 한다
+ * 둘 다 503 + Retry-After로 응답한다. 별도 컨텍스트이므로 전용 DB를 사용한다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:summary_executor;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "study-tracker.summary-executor.pool-size=1",
+        "study-tracker.summary-executor.queue-capacity=0",
+        "study-tracker.summary-executor.timeout=200ms"
+})
+@AutoConfigureMockMvc
+class SummaryExecutorBusyTest {
+
+    private static final int SLOW_YEAR = 2009;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SummaryTaskRunner summaryTaskRunner;
+
+    @SpyBean
+    private ChallengeService challengeService;
+
+    @Test
+    void saturatedExecutorRejectsImmediatelyWith503() throws Exception {
+        ThreadPoolTaskExecutor executor = summaryTaskRunner.getExecutor();
+        AsyncConfig.RejectionCountingPolicy policy =
+                (AsyncConfig.RejectionCountingPolicy) executor.getThreadPoolExecutor().getRejectedExecutionHandler();
+        long rejectedBefore = policy.getRejectedCount();
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release));
+        try {
+            mockMvc.perform(get("/api/challenge/heatmap/2010"))
+                    .andExpect(request().asyncNotStarted())
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+            assertThat(policy.getRejectedCount()).isEqualTo(rejectedBefore + 1);
+        } finally {
+            release.countDown();
+            awaitIdle(executor);
+        }
+    }
+
+    @Test
+    void summaryExceedingTimeoutEndsWith503() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            await(release);
+            return invocation.callRealMethod();
+        }).when(AopTestUtils.<ChallengeService>getUltimateTargetObject(challengeService)).getHeatmap(SLOW_YEAR);
+        try {
+            MvcResult result = mockMvc.perform(get("/api/challenge/heatmap/" + SLOW_YEAR))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+        } finally {
+            release.countDown();
+            awaitIdle(summaryTaskRunner.getExecutor());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 다음 테스트가 작업자를 쓸 수 있도록 막아 둔 작업이 끝날 때까지 기다린다
+    private static void awaitIdle(ThreadPoolTaskExecutor executor) throws InterruptedException {
+        for (int i = 0; i < 100 && executor.getActiveCount() > 0; i++) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.studytracker.repository;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.hql.internal.ast.ASTQueryTranslatorFactory;
+import org.hibernate.hql.spi.QueryTranslator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.lang.reflect.Method;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기간 조회 쿼리 실행 계획 회귀 테스트
+ * 리포지토리의 JPQL을 Hibernate가 만드는 SQL로 변환해 EXPLAIN하고,
+ * 옵티마이저가 전체 스캔 대신 idx_date 범위 스캔을 선택하는지 확인한다
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class StudyRecordRepositoryExplainTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO studies (category, name, created_at) VALUES ('프로그래밍', 'Java 스터디', NOW())");
+        Long studyId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM studies", Long.class);
+        LocalDate date = LocalDate.of(2020, 1, 1);
+        // study_records ID는 시퀀스로 할당되므로 직접 INSERT할 때는 기존 최대 ID 이후 값을 지정
+        long firstId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM study_records", Long.class);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            rows.add(new Object[]{firstId + i, studyId, Date.valueOf(date.plusDays(i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO study_records (id, study_id, date, time_slot, duration, created_at) " +
+                "VALUES (?, ?, ?, '아침', 30, NOW())", rows);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void findFirstPageByDateRangeUsesDateIndexRangeScan() throws Exception {
+        Method method = StudyRecordRepository.class.getMethod("findFirstPageByDateRange",
+                LocalDate.class, LocalDate.class, Pageable.class);
+        String plan = explain(method.getAnnotation(Query.class).value(),
+                Date.valueOf(LocalDate.of(2021, 1, 1)), Date.valueOf(LocalDate.of(2021, 2, 1)));
+
+        assertThat(plan).containsIgnoringCase("idx_date");
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void functionOnDateColumnFallsBackToTableScan() {
+        // 회귀 기준: YEAR()/MONTH()로 감싼 조건은 인덱스를 사용할 수 없다
+        String plan = explain("SELECT sr FROM StudyRecord sr WHERE YEAR(sr.date) = :year", 2021);
+
+        assertThat(plan).containsIgnoringCase("tableScan");
+    }
+
+    private String explain(String jpql, Object... params) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        QueryTranslator translator = new ASTQueryTranslatorFactory()
+                .createQueryTranslator(jpql, jpql, Collections.emptyMap(), sessionFactory, null);
+        translator.compile(Collections.emptyMap(), false);
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + translator.getSQLString(), String.class, params));
+    }
+}
@@ -0,0 +1,118 @@
+package com.studytracker.service;
+
+import com.studytracker.dto.DailySummaryDto;
+import com.studytracker.dto.PeriodSummaryDto;
+import com.studytracker.dto.StudyDto;
+import com.studytracker.dto.StudyRecordDto;
+import com.studytracker.entity.StudyRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.studytracker.support.QueryCountAssertions.assertMaxStatements;
+import static com.studytracker.support.QueryCountAssertions.countStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChallengeService 집계 쿼리 수 테스트
+ * 데이터가 있는 일수/구간 수와 관계없이 실행되는 SQL 문 수가 일정해야 한다
+ */
+@SpringBootTest
+class ChallengeServiceQueryCountTest {
+
+    private static final int YEAR = 2023;
+    private static final int MONTH = 5;
+
+    @Autowired
+    private ChallengeService challengeService;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private StudyRecordService studyRecordService;
+
+    @Autowired
+    private DailyMemoService dailyMemoService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void dailySummaryStatementCountDoesNotGrowWithDaysOfData() {
+        StudyDto java = studyService.createStudy(new StudyDto(null, "프로그래밍", "Java 스터디"));
+        addDay(LocalDate.of(YEAR, MONTH, 1), java.getId());
+
+        long statementsForOneDay = countDailySummaryStatements();
+
+        for (int day = 2; day <= 28; day++) {
+            StudyDto study = studyService.createStudy(new StudyDto(null, "프로그래밍", "스터디 " + day));
+            addDay(LocalDate.of(YEAR, MONTH, day), study.getId());
+        }
+
+        long statementsForFullMonth = countDailySummaryStatements();
+
+        assertThat(statementsForFullMonth).isEqualTo(statementsForOneDay);
+        assertThat(statementsForFullMonth).isLessThanOrEqualTo(3);
+
+        // 직전 호출로 캐시에 올라가 있으므로 SQL 없이 응답
+        List<DailySummaryDto> summaries = assertMaxStatements(0, () -> challengeService.getDailySummary(YEAR, MONTH));
+        assertThat(summaries).hasSize(31);
+        assertThat(summaries.get(27).getTotalDuration()).isEqualTo(50);
+        assertThat(summaries.get(27).getStudyNames()).containsExactly("스터디 28");
+        assertThat(summaries.get(27).getMemo()).isEqualTo("메모 28");
+    }
+
+    @Test
+    void periodSummaryUsesSingleStatementForFiveYearsOfWeeks() {
+        StudyDto first = studyService.createStudy(new StudyDto(null, "프로그래밍", "기간 집계 1"));
+        StudyDto second = studyService.createStudy(new StudyDto(null, "프로그래밍", "기간 집계 2"));
+        addRecord(LocalDate.of(2016, 1, 1), first.getId(), StudyRecord.TimeSlot.아침, 30);
+        addRecord(LocalDate.of(2016, 1, 4), first.getId(), StudyRecord.TimeSlot.퇴근후, 20);
+        addRecord(LocalDate.of(2016, 1, 4), second.getId(), StudyRecord.TimeSlot.아침, 40);
+        addRecord(LocalDate.of(2020, 12, 31), second.getId(), StudyRecord.TimeSlot.아침, 10);
+        LocalDate from = LocalDate.of(2016, 1, 1);
+        LocalDate to = LocalDate.of(2020, 12, 31);
+
+        List<PeriodSummaryDto> weeks = assertMaxStatements(1,
+                () -> challengeService.getPeriodSummary(from, to, ChallengeService.Granularity.WEEK, null));
+        // 첫 구간은 조회 시작일(금)부터 그 주 일요일까지로 잘린다
+        assertThat(weeks.get(0).getStartDate()).isEqualTo(from);
+        assertThat(weeks.get(0).getEndDate()).isEqualTo(LocalDate.of(2016, 1, 3));
+        assertThat(weeks.get(0).getTotalDuration()).isEqualTo(30);
+        assertThat(weeks.get(1).getTotalDuration()).isEqualTo(60);
+        assertThat(weeks.get(1).getTimeSlotTotals()).containsEntry("아침", 40).containsEntry("퇴근후", 20);
+        assertThat(weeks.get(weeks.size() - 1).getEndDate()).isEqualTo(to);
+        assertThat(weeks.get(weeks.size() - 1).getTotalDuration()).isEqualTo(10);
+
+        List<PeriodSummaryDto> years = assertMaxStatements(1,
+                () -> challengeService.getPeriodSummary(from, to, ChallengeService.Granularity.YEAR, null));
+        assertThat(years).extracting(PeriodSummaryDto::getTotalDuration).containsExactly(90, 0, 0, 0, 10);
+
+        List<PeriodSummaryDto> firstStudyMonths = assertMaxStatements(1, () -> challengeService.getPeriodSummary(
+                from, LocalDate.of(2016, 2, 15), ChallengeService.Granularity.MONTH, first.getId()));
+        assertThat(firstStudyMonths).extracting(PeriodSummaryDto::getTotalDuration).containsExactly(50, 0);
+        assertThat(firstStudyMonths.get(1).getEndDate()).isEqualTo(LocalDate.of(2016, 2, 15));
+    }
+
+    private void addRecord(LocalDate date, Long studyId, StudyRecord.TimeSlot timeSlot, int duration) {
+        studyRecordService.createRecord(new StudyRecordDto(null, studyId, null, null, date, timeSlot, duration));
+    }
+
+    private void addDay(LocalDate date, Long studyId) {
+        studyRecordService.createRecord(
+                new StudyRecordDto(null, studyId, null, null, date, StudyRecord.TimeSlot.아침, 30));
+        studyRecordService.createRecord(
+                new StudyRecordDto(null, studyId, null, null, date, StudyRecord.TimeSlot.퇴근후, 20));
+        dailyMemoService.saveMemo(date, "메모 " + date.getDayOfMonth());
+    }
+
+    private long countDailySummaryStatements() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        return countStatements(() -> challengeService.getDailySummary(YEAR, MONTH));
+    }
+}
@@ -0,0 +1,80 @@
+package com.studytracker.service;
+
+import com.studytracker.dto.DailyMemoDto;
+import com.studytracker.dto.DailyMemoSaveResultDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.studytracker.support.QueryCountAssertions.assertMaxStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메모 upsert 테스트
+ * 저장은 SQL 한 문장이어야 하고, 같은 날짜를 동시에 저장해도 유일 제약 위반 없이 한 행만 남아야 한다
+ */
+@SpringBootTest
+class DailyMemoServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2018, 4, 10);
+    private static final int WRITERS = 8;
+
+    @Autowired
+    private DailyMemoService dailyMemoService;
+
+    @Test
+    void saveMemoIsSingleStatementUpsert() {
+        assertMaxStatements(1, () -> dailyMemoService.saveMemo(DATE, "처음"));
+        assertMaxStatements(1, () -> dailyMemoService.saveMemo(DATE, "수정"));
+
+        assertThat(dailyMemoService.getMemoByDate(DATE)).map(DailyMemoDto::getMemo).hasValue("수정");
+    }
+
+    @Test
+    void concurrentSavesForSameDateDoNotViolateUniqueConstraint() throws Exception {
+        LocalDate date = DATE.plusDays(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<DailyMemoSaveResultDto>> saves = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                String memo = "동시 저장 " + i;
+                saves.add(executor.submit(() -> {
+                    start.await();
+                    return dailyMemoService.saveMemo(date, memo);
+                }));
+            }
+            start.countDown();
+            for (Future<DailyMemoSaveResultDto> save : saves) {
+                save.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<DailyMemoDto> memos = dailyMemoService.getMemos(date, date);
+        assertThat(memos).hasSize(1);
+        assertThat(memos.get(0).getMemo()).startsWith("동시 저장 ");
+    }
+
+    @Test
+    void getMemosReturnsRangeInDateOrder() {
+        LocalDate from = LocalDate.of(2018, 5, 1);
+        dailyMemoService.saveMemo(from.plusDays(20), "셋째");
+        dailyMemoService.saveMemo(from, "첫째");
+        dailyMemoService.saveMemo(from.plusDays(3), "둘째");
+        dailyMemoService.saveMemo(from.plusMonths(1), "범위 밖");
+
+        List<DailyMemoDto> memos = assertMaxStatements(1, () -> dailyMemoService.getMemos(from, from.plusDays(30)));
+
+        assertThat(memos).extracting(DailyMemoDto::getMemo).containsExactly("첫째", "둘째", "셋째");
+    }
+}
@@ -0,0 +1,110 @@
+package com.studytracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.studytracker.dto.DailySummaryDto;
+import com.studytracker.dto.StudyDto;
+import com.studytracker.dto.StudyRecordChangesDto;
+import com.studytracker.dto.StudyRecordChangesDto.Change;
+import com.studytracker.dto.StudyRecordChangesDto.Op;
+import com.studytracker.dto.StudyRecordChangesResultDto;
+import com.studytracker.dto.StudyRecordDto;
+import com.studytracker.entity.StudyRecord.TimeSlot;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 하루치 기록 일괄 편집(POST /api/records/changes) 테스트
+ * 생성/수정/삭제와 메모가 한 번에 적용되어 집계와 일치해야 하고, 변경 하나라도 실패하면 아무것도 바뀌지 않아야 한다
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class StudyRecordChangesTest {
+
+    private static final LocalDate DATE = LocalDate.of(2011, 5, 5);
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private StudyRecordService studyRecordService;
+
+    @Autowired
+    private StudyRollupService studyRollupService;
+
+    @Autowired
+    private ChallengeService challengeService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void mixedBatchKeepsRollupInStepAndFailedBatchChangesNothing() throws Exception {
+        StudyDto java = studyService.createStudy(new StudyDto(null, "일괄 편집", "Java"));
+        StudyDto english = studyService.createStudy(new StudyDto(null, "일괄 편집", "영어"));
+        StudyRecordDto morning = addRecord(java, TimeSlot.아침, 30);
+        StudyRecordDto lunch = addRecord(java, TimeSlot.점심, 20);
+        StudyRecordDto evening = addRecord(english, TimeSlot.퇴근후, 10);
+
+        String body = postChanges(new StudyRecordChangesDto(DATE, Arrays.asList(
+                new Change(Op.CREATE, null, english.getId(), TimeSlot.아침, 15),
+                new Change(Op.UPDATE, morning.getId(), null, TimeSlot.점심, 45),
+                new Change(Op.DELETE, lunch.getId(), null, null, null)), "일괄 편집"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        StudyRecordChangesResultDto result = objectMapper.readValue(body, StudyRecordChangesResultDto.class);
+
+        assertThat(result.getRecords()).extracting(StudyRecordDto::getTimeSlot, StudyRecordDto::getDuration)
+                .containsExactlyInAnyOrder(
+                        tuple(TimeSlot.점심, 45),
+                        tuple(TimeSlot.퇴근후, 10),
+                        tuple(TimeSlot.아침, 15));
+        DailySummaryDto summary = challengeService.getDaySummary(DATE);
+        assertThat(result.getSummary()).usingRecursiveComparison().ignoringFields("studyIds").isEqualTo(summary);
+        assertThat(summary.getTotalDuration()).isEqualTo(70);
+        assertThat(summary.getMemo()).isEqualTo("일괄 편집");
+        assertThat(studyRollupService.findMismatches(DATE, DATE.plusDays(1))).isEmpty();
+
+        List<StudyRecordDto> recordsBefore = studyRecordService.getRecordsByDate(DATE);
+        postChanges(new StudyRecordChangesDto(DATE, Arrays.asList(
+                new Change(Op.UPDATE, evening.getId(), null, null, 99),
+                new Change(Op.DELETE, Long.MAX_VALUE, null, null, null)), "실패한 편집"))
+                .andExpect(status().isBadRequest());
+        postChanges(new StudyRecordChangesDto(DATE, Arrays.asList(
+                new Change(Op.DELETE, evening.getId(), null, null, null),
+                new Change(Op.CREATE, null, java.getId(), TimeSlot.기타, null)), "실패한 편집"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(studyRecordService.getRecordsByDate(DATE)).isEqualTo(recordsBefore);
+        assertThat(challengeService.getDaySummary(DATE)).isEqualTo(summary);
+        assertThat(studyRollupService.findMismatches(DATE, DATE.plusDays(1))).isEmpty();
+    }
+
+    private ResultActions postChanges(StudyRecordChangesDto request) throws Exception {
+        return mockMvc.perform(post("/api/records/changes")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private StudyRecordDto addRecord(StudyDto study, TimeSlot timeSlot, int duration) {
+        return studyRecordService.createRecord(
+                new StudyRecordDto(null, study.getId(), null, null, DATE, timeSlot, duration));
+    }
+}
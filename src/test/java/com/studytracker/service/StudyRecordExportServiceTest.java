@@ -0,0 +1,101 @@
+package com.studytracker.service;
+
+import com.studytracker.dto.StudyDto;
+import com.studytracker.dto.StudyRecordDto;
+import com.studytracker.entity.StudyRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 기록 내보내기 테스트
+ * from/to 기간(종료일 포함)의 기록만 (date, id) 순서로 NDJSON/CSV 스트림에 써야 하고, CSV 값은 RFC 4180 규칙으로 이스케이프되어야 한다
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class StudyRecordExportServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2012, 3, 2);
+    private static final LocalDate TO = LocalDate.of(2012, 3, 3);
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private StudyRecordService studyRecordService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void exportsRangeAsNdjsonAndEscapedCsv() throws Exception {
+        StudyDto study = studyService.createStudy(new StudyDto(null, "개발\n서적", "Java, \"심화\""));
+        addRecord(study, FROM.minusDays(1), 10);
+        StudyRecordDto second = addRecord(study, TO, 30);
+        StudyRecordDto first = addRecord(study, FROM, 20);
+        addRecord(study, TO.plusDays(1), 40);
+
+        MvcResult csv = export("csv");
+        mockMvc.perform(asyncDispatch(csv))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"study-records.csv\""));
+        assertThat(body(csv)).isEqualTo(
+                "id,studyId,studyName,studyCategory,date,timeSlot,duration\n"
+                        + first.getId() + "," + study.getId() + ",\"Java, \"\"심화\"\"\",\"개발\n서적\",2012-03-02,아침,20\n"
+                        + second.getId() + "," + study.getId() + ",\"Java, \"\"심화\"\"\",\"개발\n서적\",2012-03-03,아침,30\n");
+
+        MvcResult ndjson = export("ndjson");
+        mockMvc.perform(asyncDispatch(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"));
+        assertThat(body(ndjson).split("\n")).containsExactly(
+                "{\"id\":" + first.getId() + ",\"studyId\":" + study.getId()
+                        + ",\"studyName\":\"Java, \\\"심화\\\"\",\"studyCategory\":\"개발\\n서적\""
+                        + ",\"date\":\"2012-03-02\",\"timeSlot\":\"아침\",\"duration\":20}",
+                "{\"id\":" + second.getId() + ",\"studyId\":" + study.getId()
+                        + ",\"studyName\":\"Java, \\\"심화\\\"\",\"studyCategory\":\"개발\\n서적\""
+                        + ",\"date\":\"2012-03-03\",\"timeSlot\":\"아침\",\"duration\":30}");
+    }
+
+    @Test
+    void rejectsHalfOpenRangeBeforeStreaming() throws Exception {
+        mockMvc.perform(get("/api/records/export").param("from", FROM.toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(request().asyncNotStarted());
+    }
+
+    private MvcResult export(String format) throws Exception {
+        return mockMvc.perform(get("/api/records/export")
+                        .param("format", format)
+                        .param("from", FROM.toString())
+                        .param("to", TO.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private String body(MvcResult result) {
+        return new String(result.getResponse().getContentAsByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private StudyRecordDto addRecord(StudyDto study, LocalDate date, int duration) {
+        return studyRecordService.createRecord(
+                new StudyRecordDto(null, study.getId(), null, null, date, StudyRecord.TimeSlot.아침, duration));
+    }
+}
@@ -0,0 +1,137 @@
+package com.studytracker.service;
+
+import com.studytracker.dto.StudyRecordDto;
+import com.studytracker.entity.StudyRecord;
+import com.studytracker.repository.StudyRecordRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기록 조회 경로 벤치마크 (엔티티 + 지연 로딩 vs DTO 생성자 표현식)
+ * 10만 건짜리 한 해를 조회한다. 실행: mvn test -Dtest=StudyRecordReadBenchmarkTest -Dbenchmark=true
+ */
+@SpringBootTest
+@Transactional
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class StudyRecordReadBenchmarkTest {
+
+    private static final int YEAR = 2022;
+    private static final int RECORD_COUNT = 100_000;
+    private static final int STUDY_COUNT = 20;
+    private static final int RUNS = 5;
+
+    @Autowired
+    private StudyRecordRepository studyRecordRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        List<Long> studyIds = new ArrayList<>();
+        for (int i = 0; i < STUDY_COUNT; i++) {
+            jdbcTemplate.update("INSERT INTO studies (category, name, created_at) VALUES ('벤치마크', ?, NOW())",
+                    "스터디 " + i);
+            studyIds.add(jdbcTemplate.queryForObject("SELECT MAX(id) FROM studies", Long.class));
+        }
+
+        long firstId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM study_records", Long.class);
+        StudyRecord.TimeSlot[] timeSlots = StudyRecord.TimeSlot.values();
+        LocalDate startDate = LocalDate.of(YEAR, 1, 1);
+        List<Object[]> rows = new ArrayList<>(RECORD_COUNT);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            rows.add(new Object[]{
+                    firstId + i,
+                    studyIds.get(i % STUDY_COUNT),
+                    Date.valueOf(startDate.plusDays(i % 365)),
+                    timeSlots[i % timeSlots.length].name(),
+                    1 + i % 120
+            });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO study_records (id, study_id, date, time_slot, duration, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, NOW())", rows);
+    }
+
+    @Test
+    void dtoProjectionVersusEntityPath() {
+        LocalDate startDate = LocalDate.of(YEAR, 1, 1);
+        LocalDate endDate = startDate.plusYears(1);
+
+        // 변경 전 경로: 엔티티 조회 후 toDto에서 Study 지연 로딩
+        Result entity = measure(() -> entityManager
+                .createQuery("SELECT sr FROM StudyRecord sr WHERE sr.date >= :startDate AND sr.date < :endDate",
+                        StudyRecord.class)
+                .setParameter("startDate", startDate)
+                .setParameter("endDate", endDate)
+                .getResultList().stream()
+                .map(record -> new StudyRecordDto(record.getId(), record.getStudy().getId(),
+                        record.getStudy().getName(), record.getStudy().getCategory(),
+                        record.getDate(), record.getTimeSlot(), record.getDuration()))
+                .collect(Collectors.toList()));
+
+        // 조회 API의 기간 페이지 쿼리를 한 해 전체 크기의 페이지 하나로 실행
+        Result dto = measure(() -> studyRecordRepository.findFirstPageByDateRange(
+                startDate, endDate, PageRequest.of(0, RECORD_COUNT)));
+
+        System.out.printf("entity path: median %d ms, %d statements, %d entities loaded%n",
+                entity.medianMillis, entity.statements, entity.entitiesLoaded);
+        System.out.printf("dto path:    median %d ms, %d statements, %d entities loaded%n",
+                dto.medianMillis, dto.statements, dto.entitiesLoaded);
+
+        assertThat(dto.size).isEqualTo(RECORD_COUNT);
+        assertThat(entity.size).isEqualTo(RECORD_COUNT);
+        assertThat(dto.statements).isEqualTo(1);
+        assertThat(dto.entitiesLoaded).isZero();
+    }
+
+    private Result measure(Supplier<List<StudyRecordDto>> query) {
+        long[] millis = new long[RUNS];
+        Result result = new Result();
+        for (int run = 0; run < RUNS; run++) {
+            entityManager.clear();
+            statistics.clear();
+            long start = System.nanoTime();
+            result.size = query.get().size();
+            millis[run] = (System.nanoTime() - start) / 1_000_000;
+            result.statements = statistics.getPrepareStatementCount();
+            result.entitiesLoaded = statistics.getEntityLoadCount();
+        }
+        Arrays.sort(millis);
+        result.medianMillis = millis[RUNS / 2];
+        return result;
+    }
+
+    private static class Result {
+        private int size;
+        private long medianMillis;
+        private long statements;
+        private long entitiesLoaded;
+    }
+}
@@ -0,0 +1,66 @@
+package com.studytracker.service;
+
+import com.studytracker.config.QueryCountHeaderAdvice;
+import com.studytracker.dto.StudyDto;
+import com.studytracker.dto.StudyRecordBatchResultDto;
+import com.studytracker.dto.StudyRecordDto;
+import com.studytracker.entity.StudyRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.studytracker.support.QueryCountAssertions.assertMaxStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * StudyRecordService SQL 문 수 테스트
+ * 스터디 수나 기록 수가 늘어도 실행되는 SQL 문 수가 늘지 않아야 한다 (스터디 지연 로딩 N+1 방지)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class StudyRecordServiceQueryCountTest {
+
+    private static final LocalDate DATE = LocalDate.of(2021, 3, 15);
+    private static final int STUDY_COUNT = 10;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private StudyRecordService studyRecordService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void readsAndBatchImportDoNotIssueStatementPerRecord() throws Exception {
+        List<StudyRecordDto> records = new ArrayList<>();
+        for (int i = 0; i < STUDY_COUNT; i++) {
+            StudyDto study = studyService.createStudy(new StudyDto(null, "쿼리 수", "스터디 " + i));
+            for (StudyRecord.TimeSlot timeSlot : StudyRecord.TimeSlot.values()) {
+                records.add(new StudyRecordDto(null, study.getId(), null, null, DATE, timeSlot, 10));
+            }
+        }
+
+        List<StudyRecordBatchResultDto.RowError> errors =
+                assertMaxStatements(15, () -> studyRecordService.createRecords(records));
+        assertThat(errors).isEmpty();
+
+        List<StudyRecordDto> saved = assertMaxStatements(1, () -> studyRecordService.getRecordsByDate(DATE));
+        assertThat(saved).hasSize(records.size());
+        assertThat(saved).allSatisfy(record -> assertThat(record.getStudyName()).startsWith("스터디 "));
+
+        mockMvc.perform(get("/api/records").param("date", DATE.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountHeaderAdvice.HEADER, "1"));
+    }
+}
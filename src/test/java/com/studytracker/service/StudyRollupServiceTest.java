@@ -0,0 +1,93 @@
+package com.studytracker.service;
+
+import com.studytracker.dto.DailySummaryDto;
+import com.studytracker.dto.StudyDto;
+import com.studytracker.dto.StudyRecordDto;
+import com.studytracker.entity.StudyRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 집계 테이블(daily_study_rollup) 유지 테스트
+ * 스터디를 삭제하면 그 기록이 집계에서 빠져야 하고, 같은 일자/시간대의 첫 기록을 동시에 저장해도 한 행에 모여야 한다
+ */
+@SpringBootTest
+class StudyRollupServiceTest {
+
+    private static final LocalDate DELETE_DATE = LocalDate.of(2014, 7, 8);
+    private static final LocalDate CONCURRENT_DATE = LocalDate.of(2013, 9, 9);
+    private static final int WRITERS = 8;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private StudyRecordService studyRecordService;
+
+    @Autowired
+    private StudyRollupService studyRollupService;
+
+    @Autowired
+    private ChallengeService challengeService;
+
+    @Test
+    void deletingStudyRemovesItsMinutesFromSummaries() {
+        StudyDto kept = studyService.createStudy(new StudyDto(null, "집계", "남는 스터디"));
+        StudyDto deleted = studyService.createStudy(new StudyDto(null, "집계", "삭제할 스터디"));
+        addRecord(kept, DELETE_DATE, StudyRecord.TimeSlot.아침, 30);
+        addRecord(deleted, DELETE_DATE, StudyRecord.TimeSlot.아침, 20);
+        addRecord(deleted, DELETE_DATE, StudyRecord.TimeSlot.점심, 15);
+        assertThat(challengeService.getMonthlySummary(2014).get(6).getTotalDuration()).isEqualTo(65);
+
+        studyService.deleteStudy(deleted.getId());
+
+        DailySummaryDto day = challengeService.getDaySummary(DELETE_DATE);
+        assertThat(day.getTotalDuration()).isEqualTo(30);
+        assertThat(day.getTimeSlotTotals()).containsEntry("점심", 0);
+        assertThat(day.getStudyNames()).containsExactly("남는 스터디");
+        assertThat(challengeService.getMonthlySummary(2014).get(6).getTotalDuration()).isEqualTo(30);
+        assertThat(challengeService.getHeatmap(2014).getTotals()[DELETE_DATE.getDayOfYear() - 1]).isEqualTo(30);
+        assertThat(studyRecordService.getRecordsByDate(DELETE_DATE)).hasSize(1);
+        assertThat(studyRollupService.findMismatches(DELETE_DATE, DELETE_DATE.plusDays(1))).isEmpty();
+    }
+
+    @Test
+    void concurrentFirstRecordsForSameSlotShareOneRollupRow() throws Exception {
+        StudyDto study = studyService.createStudy(new StudyDto(null, "집계", "동시 저장"));
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<StudyRecordDto>> saves = new ArrayList<>();
+            for (int i = 0; i < WRITERS; i++) {
+                saves.add(executor.submit(() -> {
+                    start.await();
+                    return addRecord(study, CONCURRENT_DATE, StudyRecord.TimeSlot.퇴근길, 10);
+                }));
+            }
+            start.countDown();
+            for (Future<StudyRecordDto> save : saves) {
+                save.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(challengeService.getDaySummary(CONCURRENT_DATE).getTotalDuration()).isEqualTo(WRITERS * 10);
+        assertThat(studyRollupService.findMismatches(CONCURRENT_DATE, CONCURRENT_DATE.plusDays(1))).isEmpty();
+    }
+
+    private StudyRecordDto addRecord(StudyDto study, LocalDate date, StudyRecord.TimeSlot timeSlot, int duration) {
+        return studyRecordService.createRecord(new StudyRecordDto(null, study.getId(), null, null, date, timeSlot, duration));
+    }
+}
@@ -0,0 +1,73 @@
+package com.studytracker.service;
+
+import com.studytracker.dto.StreakDto;
+import com.studytracker.dto.StudyDto;
+import com.studytracker.dto.StudyRecordDto;
+import com.studytracker.entity.StudyRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.studytracker.support.QueryCountAssertions.assertMaxStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 연속 학습일 추적 테스트
+ * 기록 등록/삭제가 커밋되면 구간이 증분 갱신되고, 조회에는 SQL이 실행되지 않아야 한다
+ */
+@SpringBootTest
+class StudyStreakTrackerTest {
+
+    private static final LocalDate START = LocalDate.of(2031, 1, 1);
+    private static final int DAYS = 40;
+
+    @Autowired
+    private StudyStreakTracker studyStreakTracker;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private StudyRecordService studyRecordService;
+
+    @Test
+    void streakFollowsRecordChangesWithoutQueryingHistory() {
+        StudyDto study = studyService.createStudy(new StudyDto(null, "연속 학습", "스트릭"));
+        List<StudyRecordDto> records = new ArrayList<>();
+        for (int day = 0; day < DAYS; day++) {
+            records.add(new StudyRecordDto(null, study.getId(), null, null, START.plusDays(day),
+                    StudyRecord.TimeSlot.아침, 10));
+        }
+        studyRecordService.createRecords(records);
+        LocalDate lastDay = START.plusDays(DAYS - 1);
+
+        // 첫 조회에서 구간을 로드한 뒤에는 메모리에서만 계산
+        studyStreakTracker.getStreak(lastDay);
+        StreakDto streak = assertMaxStatements(0, () -> studyStreakTracker.getStreak(lastDay));
+        assertThat(streak.getCurrentStreak()).isEqualTo(DAYS);
+        assertThat(streak.getLongestStreak()).isEqualTo(DAYS);
+        assertThat(streak.getLastStudyDate()).isEqualTo(lastDay);
+
+        // 오늘 기록이 없으면 어제까지의 연속일, 이틀 이상 비면 0
+        assertThat(studyStreakTracker.getStreak(lastDay.plusDays(1)).getCurrentStreak()).isEqualTo(DAYS);
+        assertThat(studyStreakTracker.getStreak(lastDay.plusDays(2)).getCurrentStreak()).isZero();
+
+        // 중간 날짜의 유일한 기록을 지우면 구간이 둘로 나뉜다
+        LocalDate middle = START.plusDays(19);
+        Long middleId = studyRecordService.getRecordsByDate(middle).get(0).getId();
+        studyRecordService.deleteRecord(middleId);
+        streak = studyStreakTracker.getStreak(lastDay);
+        assertThat(streak.getCurrentStreak()).isEqualTo(DAYS - 20);
+        assertThat(streak.getLongestStreak()).isLessThan(DAYS);
+
+        // 다시 기록하면 양쪽 구간이 합쳐진다
+        studyRecordService.createRecord(new StudyRecordDto(null, study.getId(), null, null, middle,
+                StudyRecord.TimeSlot.점심, 5));
+        assertThat(studyStreakTracker.getStreak(lastDay).getCurrentStreak()).isEqualTo(DAYS);
+        assertThat(studyStreakTracker.getStreak(lastDay).getLongestStreak()).isEqualTo(DAYS);
+    }
+}
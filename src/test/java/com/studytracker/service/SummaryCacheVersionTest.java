@@ -0,0 +1,57 @@
+package com.studytracker.service;
+
+import com.studytracker.config.CacheConfig;
+import com.studytracker.dto.MonthlySummaryDto;
+import com.studytracker.dto.StudyDto;
+import com.studytracker.dto.StudyRecordDto;
+import com.studytracker.entity.StudyRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 집계 캐시 버전 키 테스트
+ * 커밋 전에 시작된 조회가 무효화 이후에 옛 결과를 캐시에 넣어도, 새 버전에서는 그 값이 조회되지 않아야 한다
+ */
+@SpringBootTest
+class SummaryCacheVersionTest {
+
+    private static final int YEAR = 2017;
+
+    @Autowired
+    private ChallengeService challengeService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private StudyRecordService studyRecordService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void stalePutAfterEvictionIsNotServedForNewVersion() {
+        List<MonthlySummaryDto> before = challengeService.getMonthlySummary(YEAR);
+        String keyBeforeCommit = dataVersionService.monthlyCacheKey(YEAR);
+
+        StudyDto study = studyService.createStudy(new StudyDto(null, "캐시 버전", "버전 키"));
+        studyRecordService.createRecord(new StudyRecordDto(null, study.getId(), null, null,
+                LocalDate.of(YEAR, 6, 1), StudyRecord.TimeSlot.아침, 40));
+
+        // 커밋 전에 시작된 조회가 무효화 이후에 옛 결과를 넣는 경우
+        cacheManager.getCache(CacheConfig.MONTHLY_SUMMARY_CACHE).put(keyBeforeCommit, before);
+
+        assertThat(dataVersionService.monthlyCacheKey(YEAR)).isNotEqualTo(keyBeforeCommit);
+        assertThat(challengeService.getMonthlySummary(YEAR).get(5).getTotalDuration()).isEqualTo(40);
+    }
+}
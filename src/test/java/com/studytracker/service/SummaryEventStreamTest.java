@@ -0,0 +1,109 @@
+package com.studytracker.service;
+
+import com.studytracker.dto.StudyDto;
+import com.studytracker.dto.StudyRecordDto;
+import com.studytracker.entity.StudyRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 집계 변경분 스트림(SSE) 테스트
+ * 커밋된 변경만 delta/reset 이벤트로 전달되어야 하고, 구독 수 상한에서는 503 + Retry-After, 끊긴 연결은 전송 시 정리되어야 한다
+ * 구독 수 상한을 낮춘 별도 컨텍스트이므로 전용 DB를 사용한다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:summary_stream;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "study-tracker.stream.max-emitters=2"
+})
+@AutoConfigureMockMvc
+class SummaryEventStreamTest {
+
+    private static final LocalDate DATE = LocalDate.of(2008, 4, 1);
+    private static final LocalDate ROLLED_BACK_DATE = LocalDate.of(2008, 4, 2);
+    private static final long EVENT_TIMEOUT_MILLIS = 5_000;
+
+    @Autowired
+    private SummaryEventStream summaryEventStream;
+
+    @Autowired
+    private StudyService studyService;
+
+    @Autowired
+    private StudyRecordService studyRecordService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void committedChangesAreStreamedAndCapIsEnforced() throws Exception {
+        MvcResult stream = subscribe();
+        // 응답에 연결되지 않은 채 완료된 구독 = 끊긴 연결 (다음 전송에서 정리되어야 함)
+        SseEmitter dead = summaryEventStream.subscribe();
+        dead.complete();
+        assertThat(summaryEventStream.getEmitterCount()).isEqualTo(2);
+
+        mockMvc.perform(get("/api/challenge/stream"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "30"));
+
+        StudyDto study = studyService.createStudy(new StudyDto(null, "스트림", "SSE 스터디"));
+        awaitEvent(stream, "event:reset");
+
+        transactionTemplate.executeWithoutResult(transaction -> {
+            addRecord(study, ROLLED_BACK_DATE, 50);
+            transaction.setRollbackOnly();
+        });
+        addRecord(study, DATE, 25);
+
+        // 전송은 단일 스레드에서 순서대로 처리되므로, 뒤에 커밋된 변경이 도착했다면 롤백된 변경은 보내지지 않은 것이다
+        String events = awaitEvent(stream, "\"date\":\"" + DATE + "\"");
+        assertThat(events).contains("event:delta\ndata:{\"date\":\"" + DATE + "\",\"timeSlot\":\"아침\","
+                + "\"deltaMinutes\":25,\"memoChanged\":false}");
+        assertThat(events).doesNotContain(ROLLED_BACK_DATE.toString());
+        assertThat(summaryEventStream.getEmitterCount()).isEqualTo(1);
+
+        subscribe();
+        assertThat(summaryEventStream.getEmitterCount()).isEqualTo(2);
+    }
+
+    private MvcResult subscribe() throws Exception {
+        return mockMvc.perform(get("/api/challenge/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private String awaitEvent(MvcResult stream, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + EVENT_TIMEOUT_MILLIS;
+        String events = stream.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (!events.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            events = stream.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        assertThat(events).contains(expected);
+        return events;
+    }
+
+    private void addRecord(StudyDto study, LocalDate date, int duration) {
+        studyRecordService.createRecord(
+                new StudyRecordDto(null, study.getId(), null, null, date, StudyRecord.TimeSlot.아침, duration));
+    }
+}
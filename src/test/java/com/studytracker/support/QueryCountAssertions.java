@@ -0,0 +1,35 @@
+package com.studytracker.support;
+
+import com.studytracker.config.QueryCounter;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL 문 수 검증 도우미
+ * 서비스 호출이 실행한 SQL 문 수(QueryCounter 기준)를 검증해 N+1 회귀를 테스트에서 잡는다
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * action이 max개 이하의 SQL 문을 실행하는지 검증하고 결과를 돌려준다
+     */
+    public static <T> T assertMaxStatements(int max, Supplier<T> action) {
+        AtomicReference<T> result = new AtomicReference<>();
+        int count = QueryCounter.count(() -> result.set(action.get()));
+        assertThat(count).as("실행된 SQL 문 수").isLessThanOrEqualTo(max);
+        return result.get();
+    }
+
+    /**
+     * action이 실행한 SQL 문 수
+     */
+    public static int countStatements(Runnable action) {
+        return QueryCounter.count(action);
+    }
+}